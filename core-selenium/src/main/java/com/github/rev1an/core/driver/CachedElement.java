@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.driver;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+
+/**
+ * {@link WebElement} handed out by {@link ElementCache}.
+ * <p>
+ * Remembers how it was located, so a stale element is looked up again and the command is retried once.
+ * Commands that may change the DOM mark cached generation as unknown. Selenium unwraps {@link WrapsElement}
+ * when elements are passed to scripts or actions.
+ *
+ * @author rev1an (Sergey Alekseev)
+ */
+final class CachedElement implements WebElement, WrapsElement {
+
+    private final ElementCache cache;
+    private final CachedElement parent;
+    private final ElementCache.Path path;
+
+    private volatile WebElement element;
+
+    CachedElement(ElementCache cache, CachedElement parent, ElementCache.Path path, WebElement element) {
+        this.cache = cache;
+        this.parent = parent;
+        this.path = path;
+        this.element = element;
+    }
+
+    ElementCache.Path path() {
+        return path;
+    }
+
+    /**
+     * Apply {@code command} to original element, relocate it and retry once if it's stale.
+     */
+    <R> R withRetry(Function<WebElement, R> command) {
+        try {
+            return command.apply(element);
+        } catch (StaleElementReferenceException e) {
+            element = cache.locate(parent, path);
+            return command.apply(element);
+        }
+    }
+
+    private void mutate(Consumer<WebElement> command) {
+        try {
+            withRetry(e -> {
+                command.accept(e);
+                return null;
+            });
+        } finally {
+            cache.markDirty();
+        }
+    }
+
+    @Override
+    public WebElement getWrappedElement() {
+        return element;
+    }
+
+    @Override
+    public void click() {
+        mutate(WebElement::click);
+    }
+
+    @Override
+    public void submit() {
+        mutate(WebElement::submit);
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        mutate(e -> e.sendKeys(keysToSend));
+    }
+
+    @Override
+    public void clear() {
+        mutate(WebElement::clear);
+    }
+
+    @Override
+    public String getTagName() {
+        return withRetry(WebElement::getTagName);
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        return withRetry(e -> e.getDomProperty(name));
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        return withRetry(e -> e.getDomAttribute(name));
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        return withRetry(e -> e.getAttribute(name));
+    }
+
+    @Override
+    public String getAriaRole() {
+        return withRetry(WebElement::getAriaRole);
+    }
+
+    @Override
+    public String getAccessibleName() {
+        return withRetry(WebElement::getAccessibleName);
+    }
+
+    @Override
+    public boolean isSelected() {
+        return withRetry(WebElement::isSelected);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return withRetry(WebElement::isEnabled);
+    }
+
+    @Override
+    public String getText() {
+        return withRetry(WebElement::getText);
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return cache.findElements(this, by);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return cache.findElement(this, by);
+    }
+
+    @Override
+    public SearchContext getShadowRoot() {
+        return withRetry(WebElement::getShadowRoot);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return withRetry(WebElement::isDisplayed);
+    }
+
+    @Override
+    public Point getLocation() {
+        return withRetry(WebElement::getLocation);
+    }
+
+    @Override
+    public Dimension getSize() {
+        return withRetry(WebElement::getSize);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return withRetry(WebElement::getRect);
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return withRetry(e -> e.getCssValue(propertyName));
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
+        return withRetry(e -> e.getScreenshotAs(target));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        final var other = o instanceof WrapsElement wraps ? wraps.getWrappedElement() : o;
+        return element.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return element.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return element.toString();
+    }
+
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.driver;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import com.github.rev1an.core.metrics.LatencyHistogram;
+import com.github.rev1an.core.util.AimdLimiter;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+/**
+ * Run-level latency of WebDriver commands, measured on the client side.
+ * <p>
+ * Disabled by default, once {@link #enable()}d {@link WrappedDriverFactory} decorates every new session with
+ * {@link EventFiringDecorator}, and each command ({@code findElement}, {@code click}, {@code executeScript},
+ * {@code get}, ...) is timed from request to response. Latencies are recorded twice:
+ * <ul>
+ *     <li>per command type - i.e. {@code WebDriver.findElement}, {@code WebElement.click},</li>
+ *     <li>per session - all commands of one session, slow grid nodes stand out here.</li>
+ * </ul>
+ * Calls that never reach the wire, like {@link WebDriver#manage()} or {@link WebDriver#switchTo()}, are skipped.
+ * <p>
+ * Sessions are also decorated while an {@link AimdLimiter} is installed, to feed it with command latency.
+ *
+ * @author rev1an (Sergey Alekseev)
+ * @see WaitStatistics
+ */
+public final class CommandMetrics {
+
+    private static final Set<String> LOCAL_CALLS = Set.of("manage", "switchTo", "navigate", "timeouts", "window",
+                                                          "logs", "getWrappedDriver", "getWrappedElement",
+                                                          "getCapabilities", "getSessionId", "getId",
+                                                          "toString", "hashCode", "equals");
+    private static final Map<String, Series> COMMANDS = new ConcurrentHashMap<>();
+    private static final Map<String, Series> SESSIONS = new ConcurrentHashMap<>();
+    private static final Map<Method, Series> DRIVER_COMMANDS = new ConcurrentHashMap<>();
+    private static final Map<Method, Series> ELEMENT_COMMANDS = new ConcurrentHashMap<>();
+    private static final Map<Method, Series> OTHER_COMMANDS = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled = false;
+
+    private CommandMetrics() {
+    }
+
+    /**
+     * Start timing commands of all sessions created afterwards.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * @return {@code true} if new sessions are decorated
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Forget all recorded metrics.
+     */
+    public static void reset() {
+        DRIVER_COMMANDS.clear();
+        ELEMENT_COMMANDS.clear();
+        OTHER_COMMANDS.clear();
+        COMMANDS.clear();
+        SESSIONS.clear();
+    }
+
+    /**
+     * Decorate {@code driver}, so its commands are timed.
+     *
+     * @param driver original driver, usually {@link RemoteWebDriver}
+     *
+     * @return decorated driver
+     */
+    public static WebDriver decorate(WebDriver driver) {
+        final var session = driver instanceof RemoteWebDriver remote && remote.getSessionId() != null ?
+                            remote.getSessionId().toString() :
+                            "%s@%x".formatted(driver.getClass().getSimpleName(), System.identityHashCode(driver));
+        final var listener = new TimingListener(SESSIONS.computeIfAbsent(session, Series::new));
+        return new EventFiringDecorator<>(listener).decorate(driver);
+    }
+
+    /**
+     * @return latency per command type, commands with the highest total time go first
+     */
+    public static List<Entry> commands() {
+        return entries(COMMANDS);
+    }
+
+    /**
+     * @return latency per session, sessions with the highest total time go first
+     */
+    public static List<Entry> sessions() {
+        return entries(SESSIONS);
+    }
+
+    /**
+     * @return human-readable tables with count, errors, p50, p95, p99 and max per command type and per session
+     */
+    public static String summary() {
+        return table("command", commands()) + System.lineSeparator() + table("session", sessions());
+    }
+
+    private static List<Entry> entries(Map<String, Series> series) {
+        return series.entrySet()
+                     .stream()
+                     .map(entry -> new Entry(entry.getKey(), entry.getValue().latency.snapshot(),
+                                             entry.getValue().errors.sum()))
+                     .sorted(Comparator.comparingLong(Entry::totalNanos).reversed())
+                     .toList();
+    }
+
+    private static String table(String name, List<Entry> entries) {
+        final var table = new StringBuilder("%8s %8s %10s %10s %10s %10s  %s%n".formatted(
+                "count", "errors", "p50, ms", "p95, ms", "p99, ms", "max, ms", name));
+        for (final var entry : entries) {
+            final var latency = entry.latency();
+            table.append("%8d %8d %10.1f %10.1f %10.1f %10.1f  %s%n".formatted(
+                    latency.count(), entry.errors(),
+                    latency.p50() / 1e6, latency.p95() / 1e6, latency.p99() / 1e6, latency.max() / 1e6,
+                    entry.name()));
+        }
+        return table.toString();
+    }
+
+    /**
+     * Latency of one command type or session.
+     *
+     * @param name    command type or session id
+     * @param latency command latency, in nanoseconds
+     * @param errors  number of commands that failed
+     */
+    public record Entry(String name,
+                        LatencyHistogram.Snapshot latency,
+                        long errors) {
+
+        /**
+         * @return approximate time spent in commands, in nanoseconds
+         */
+        public long totalNanos() {
+            return latency.mean() * latency.count();
+        }
+
+    }
+
+    private static final class Series {
+
+        private final String name;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+
+        private Series(String name) {
+            this.name = name;
+        }
+
+    }
+
+    /**
+     * Start times of in-flight commands of one thread. Decorated calls may nest, i.e. when a listener
+     * or a proxy calls back into the driver, so it's a stack.
+     */
+    private static final class Starts {
+
+        private long[] stack = new long[8];
+        private int depth = 0;
+
+        private void push(long start) {
+            if (depth == stack.length) {
+                stack = Arrays.copyOf(stack, depth * 2);
+            }
+            stack[depth++] = start;
+        }
+
+        private long pop() {
+            return depth == 0 ? System.nanoTime() : stack[--depth];
+        }
+
+    }
+
+    /**
+     * Listener attached to one session.
+     * <p>
+     * Command names are resolved once per {@link Method} and target kind, so the hot path is
+     * two {@link System#nanoTime()} calls, a map lookup and a few atomic increments.
+     */
+    private static final class TimingListener implements WebDriverListener {
+
+        private static final ThreadLocal<Starts> STARTS = ThreadLocal.withInitial(Starts::new);
+
+        private final Series session;
+
+        private TimingListener(Series session) {
+            this.session = session;
+        }
+
+        @Override
+        public void beforeAnyCall(Object target, Method method, Object[] args) {
+            if (!LOCAL_CALLS.contains(method.getName())) {
+                STARTS.get().push(System.nanoTime());
+            }
+        }
+
+        @Override
+        public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+            record(target, method, false);
+        }
+
+        @Override
+        public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+            record(target, method, true);
+        }
+
+        private void record(Object target, Method method, boolean failed) {
+            if (LOCAL_CALLS.contains(method.getName())) {
+                return;
+            }
+            final var elapsed = System.nanoTime() - STARTS.get().pop();
+            final var command = command(target, method);
+            command.latency.record(elapsed);
+            session.latency.record(elapsed);
+            AimdLimiter.report(command.name, elapsed, false);
+            if (failed) {
+                command.errors.increment();
+                session.errors.increment();
+            }
+        }
+
+        /**
+         * Same method may be declared by several interfaces, i.e. {@code SearchContext.findElement},
+         * so drivers and elements are named after target kind rather than declaring class.
+         */
+        private static Series command(Object target, Method method) {
+            if (target instanceof WebElement) {
+                return ELEMENT_COMMANDS.computeIfAbsent(method, ignore -> series("WebElement." + method.getName()));
+            }
+            if (target instanceof WebDriver) {
+                return DRIVER_COMMANDS.computeIfAbsent(method, ignore -> series("WebDriver." + method.getName()));
+            }
+            return OTHER_COMMANDS.computeIfAbsent(method, ignore -> series(
+                    method.getDeclaringClass().getSimpleName() + "." + method.getName()));
+        }
+
+        private static Series series(String name) {
+            return COMMANDS.computeIfAbsent(name, Series::new);
+        }
+
+    }
+
+}
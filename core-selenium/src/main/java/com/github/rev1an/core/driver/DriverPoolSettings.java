@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.driver;
+
+import java.time.Duration;
+
+/**
+ * Encapsulated parameters used to tune {@link WrappedDriverPool}.
+ *
+ * @param size        number of sessions spawned in advance, and maximum number of idle sessions kept in pool
+ * @param maxReuse    how many times a single session can be lent before it's quit, {@code 0} means unlimited
+ * @param idleTimeout idle sessions older than this are quit instead of being lent, {@link Duration#ZERO} means never
+ *
+ * @author rev1an (Sergey Alekseev)
+ * @see WrappedDriverPool
+ */
+public record DriverPoolSettings(int size,
+                                 int maxReuse,
+                                 Duration idleTimeout) {
+
+    /**
+     * @return {@code true} if pooling should be used at all
+     */
+    public boolean enabled() {
+        return size > 0;
+    }
+
+}
@@ -6,10 +6,13 @@
 
 package com.github.rev1an.core.driver;
 
+import java.time.Duration;
+import com.github.rev1an.core.driver.builder.HubBalancer;
+
 /**
  * Encapsulated parameters used for creating new {@link org.openqa.selenium.WebDriver} class.
  *
- * @param hubUrl      a link to {@code Selenium Hub}
+ * @param hubUrl      a link to {@code Selenium Hub}, or several comma separated links
  *                    <p>
  *                    or {@code Selenoid}
  *                    <p>
@@ -21,12 +24,32 @@ package com.github.rev1an.core.driver;
  * @param driverClass full class reference, i.e. {@code org.openqa.selenium.chrome.ChromeDriver} or
  *                    {@code org.openqa.selenium.firefox.FirefoxDriver}
  * @param timeouts    container with Selenium timeouts settings
+ * @param elementCacheValidity how long {@link WrappedDriver#findElement(org.openqa.selenium.By)} results are
+ *                    trusted without checking the DOM, {@link Duration#ZERO} checks it with every lookup,
+ *                    {@code null} disables element cache, see {@link ElementCache}
+ * @param hubBalancing how a hub is picked for each session, if several hub urls are given
  *
  * @author rev1an (Sergey Alekseev)
  * @see DriverSettings
  */
 public record DriverSettings(String hubUrl,
                              String driverClass,
-                             DriverTimeouts timeouts) {
+                             DriverTimeouts timeouts,
+                             Duration elementCacheValidity,
+                             HubBalancer.Strategy hubBalancing) {
+
+    /**
+     * Settings with element cache disabled.
+     */
+    public DriverSettings(String hubUrl, String driverClass, DriverTimeouts timeouts) {
+        this(hubUrl, driverClass, timeouts, null);
+    }
+
+    /**
+     * Settings with round-robin hub balancing.
+     */
+    public DriverSettings(String hubUrl, String driverClass, DriverTimeouts timeouts, Duration elementCacheValidity) {
+        this(hubUrl, driverClass, timeouts, elementCacheValidity, HubBalancer.Strategy.ROUND_ROBIN);
+    }
 
 }
@@ -14,14 +14,24 @@ import java.time.Duration;
  * @param pageLoadTimeout  to be set into {@link org.openqa.selenium.WebDriver.Timeouts#pageLoadTimeout(Duration)}
  * @param timeout          'The timeout in seconds when an expectation is called.'
  * @param pollingFrequency 'The duration in milliseconds to sleep between polls.'
+ * @param polling          strategy of sleeping between polls, {@code null} means fixed {@code pollingFrequency}
  *
  * @author rev1an (Sergey Alekseev)
  * @see Waiter
+ * @see PollingStrategy
  * @see org.openqa.selenium.support.ui.WebDriverWait#WebDriverWait(org.openqa.selenium.WebDriver, Duration, Duration)
  * @see org.openqa.selenium.support.ui.FluentWait
  */
 public record DriverTimeouts(Duration pageLoadTimeout,
                              Duration timeout,
-                             Duration pollingFrequency) {
+                             Duration pollingFrequency,
+                             PollingStrategy polling) {
+
+    /**
+     * Timeouts with fixed {@code pollingFrequency}.
+     */
+    public DriverTimeouts(Duration pageLoadTimeout, Duration timeout, Duration pollingFrequency) {
+        this(pageLoadTimeout, timeout, pollingFrequency, null);
+    }
 
 }
@@ -6,6 +6,16 @@
 
 package com.github.rev1an.core.driver;
 
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.github.rev1an.core.json.JacksonHolder;
 import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebElement;
@@ -18,6 +28,37 @@ import org.openqa.selenium.interactions.Actions;
  */
 public final class DriverUtilities {
 
+    private static final TypeReference<List<List<ElementSnapshot>>> SNAPSHOTS = new TypeReference<>() {
+    };
+    private static final String SNAPSHOT = ElementQueries.FUNCTIONS + """
+                                                                      var properties = arguments[1], attributes = arguments[2];
+                                                                      return JSON.stringify(arguments[0].map(function (locator) {
+                                                                          return find(document, locator[0], locator[1]).map(function (e, index) {
+                                                                              var snapshot = {index: index, tagName: e.tagName.toLowerCase()};
+                                                                              if (properties.indexOf('TEXT') >= 0) {
+                                                                                  snapshot.text = typeof e.innerText === 'string' ? e.innerText : e.textContent;
+                                                                              }
+                                                                              if (properties.indexOf('VISIBLE') >= 0) {
+                                                                                  snapshot.visible = visible(e);
+                                                                              }
+                                                                              if (properties.indexOf('RECT') >= 0) {
+                                                                                  var rect = e.getBoundingClientRect();
+                                                                                  snapshot.rect = {
+                                                                                      x: rect.left + window.scrollX, y: rect.top + window.scrollY,
+                                                                                      width: rect.width, height: rect.height
+                                                                                  };
+                                                                              }
+                                                                              if (attributes.length > 0) {
+                                                                                  snapshot.attributes = {};
+                                                                                  attributes.forEach(function (name) {
+                                                                                      snapshot.attributes[name] = e.getAttribute(name);
+                                                                                  });
+                                                                              }
+                                                                              return snapshot;
+                                                                          });
+                                                                      }));
+                                                                      """;
+
     private final WrappedDriver driver;
 
     /**
@@ -53,6 +94,91 @@ public final class DriverUtilities {
         }
     }
 
+    /*
+     * Snapshots
+     * */
+
+    /**
+     * Capture state of all elements found by {@code locator} with a single command.
+     *
+     * @see #snapshot(Collection, Set, String...)
+     */
+    public List<ElementSnapshot> snapshot(By locator, Set<ElementSnapshot.Property> properties, String... attributes) {
+        return snapshot(List.of(locator), properties, attributes).get(locator);
+    }
+
+    /**
+     * Capture state of all elements found by each of {@code locators} with a single
+     * {@link WrappedDriver#executeScript(String, Object...)} call, instead of a round trip per element
+     * per property. Result is serialized to JSON in the page, and parsed with {@link JacksonHolder#DEFAULT}.
+     * <p>
+     * Locators that can't be evaluated in the page (see {@link ElementQueries#isSupported(By)}) are captured
+     * with regular WebDriver commands.
+     *
+     * @param locators   element locators
+     * @param properties properties to capture
+     * @param attributes names of attributes to capture
+     *
+     * @return snapshots of found elements per locator, in order of {@code locators}
+     */
+    public Map<By, List<ElementSnapshot>> snapshot(Collection<By> locators,
+                                                   Set<ElementSnapshot.Property> properties,
+                                                   String... attributes) {
+        final var remote = locators.stream()
+                                   .filter(ElementQueries::isSupported)
+                                   .distinct()
+                                   .toList();
+        final var captured = remote.isEmpty() ? List.<List<ElementSnapshot>>of() : capture(remote, properties, attributes);
+        final var snapshots = new LinkedHashMap<By, List<ElementSnapshot>>();
+        for (final var locator : locators) {
+            final var index = remote.indexOf(locator);
+            snapshots.put(locator, index >= 0 ?
+                                   captured.get(index) :
+                                   snapshot(driver.findElements(locator), properties, attributes));
+        }
+        return snapshots;
+    }
+
+    private List<List<ElementSnapshot>> capture(List<By> locators,
+                                                Set<ElementSnapshot.Property> properties,
+                                                String... attributes) {
+        final var parameters = locators.stream()
+                                       .map(locator -> ((By.Remotable) locator).getRemoteParameters())
+                                       .map(parameter -> List.of(parameter.using(), parameter.value()))
+                                       .toList();
+        final var names = properties.stream().map(Enum::name).toList();
+        final var json = (String) ElementQueries.executor(driver)
+                                                .executeScript(SNAPSHOT, parameters, names, List.of(attributes));
+        try {
+            return JacksonHolder.DEFAULT.readValue(json, SNAPSHOTS);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Failed to parse page snapshot", e);
+        }
+    }
+
+    private static List<ElementSnapshot> snapshot(List<WebElement> elements,
+                                                  Set<ElementSnapshot.Property> properties,
+                                                  String... attributes) {
+        final var snapshots = new ArrayList<ElementSnapshot>(elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            final var element = elements.get(i);
+            final var rect = properties.contains(ElementSnapshot.Property.RECT) ? element.getRect() : null;
+            final var values = new LinkedHashMap<String, String>();
+            for (final var attribute : attributes) {
+                values.put(attribute, element.getDomAttribute(attribute));
+            }
+            snapshots.add(new ElementSnapshot(
+                    i,
+                    element.getTagName().toLowerCase(),
+                    properties.contains(ElementSnapshot.Property.TEXT) ? element.getText() : null,
+                    properties.contains(ElementSnapshot.Property.VISIBLE) ? element.isDisplayed() : null,
+                    rect == null ? null : new ElementSnapshot.Rect(rect.getX(), rect.getY(),
+                                                                   rect.getWidth(), rect.getHeight()),
+                    attributes.length > 0 ? values : null));
+        }
+        return snapshots;
+    }
+
     /*
      * Scrolls
      * */
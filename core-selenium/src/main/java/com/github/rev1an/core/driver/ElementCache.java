@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.driver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Opt-in cache of {@link WrappedDriver#findElement(By)} results, keyed by lookup path: search context and locator.
+ * <p>
+ * Each page gets a {@code MutationObserver} that counts DOM mutations, so current <em>DOM generation</em> can be
+ * checked within the same script that performs a lookup: while it's unchanged, the cached element is returned
+ * without searching again.
+ * <p>
+ * Optionally, a validated generation is <em>trusted</em> without any round trip for {@code validity}, unless
+ * a command that may change the DOM (click, typing, script execution) is sent through this driver or its elements.
+ * That's off by default, and unsafe for pages re-rendered asynchronously (XHR, timers, frameworks): such changes
+ * don't go through the driver, so a different, still attached element may be returned instead of failing as stale.
+ * <p>
+ * Navigation, {@link WebDriver#switchTo()} and closing a window drop the cache entirely.
+ * <p>
+ * All elements are handed out as {@link CachedElement}s: if an element still turns out to be stale,
+ * it's looked up again by its path and the command is retried, transparently for the caller.
+ * Only {@link By.Remotable} locators are cached, see {@link ElementQueries#isSupported(By)}.
+ *
+ * @author rev1an (Sergey Alekseev)
+ * @see DriverSettings#elementCacheValidity()
+ */
+final class ElementCache {
+
+    private static final String LOOKUP = ElementQueries.FUNCTIONS + """
+                                                                    var state = window.__rev1anDomGeneration;
+                                                                    if (!state) {
+                                                                        state = window.__rev1anDomGeneration = {
+                                                                            id: Math.random().toString(36).slice(2),
+                                                                            count: 0
+                                                                        };
+                                                                        new MutationObserver(function () {
+                                                                            state.count++;
+                                                                        }).observe(document, {
+                                                                            childList: true, subtree: true,
+                                                                            attributes: true, characterData: true
+                                                                        });
+                                                                    }
+                                                                    var generation = state.id + ':' + state.count;
+                                                                    if (generation === arguments[3] && !arguments[4]) {
+                                                                        return [generation];
+                                                                    }
+                                                                    var found = find(arguments[0] || document, arguments[1], arguments[2]);
+                                                                    return [generation, found.length > 0 ? found[0] : null];
+                                                                    """;
+
+    private final WebDriver driver;
+    private final long validityNanos;
+    private final Map<Path, CachedElement> elements = new ConcurrentHashMap<>();
+
+    private volatile String generation = null;
+    private volatile long validatedAt = 0;
+    private volatile boolean dirty = true;
+
+    /**
+     * @param driver   original driver, not {@link WrappedDriver}
+     * @param validity how long validated DOM generation is trusted without asking the page again,
+     *                 {@link Duration#ZERO} to validate it with every lookup
+     */
+    ElementCache(WebDriver driver, Duration validity) {
+        this.driver = driver;
+        this.validityNanos = validity.toNanos();
+    }
+
+    /**
+     * @param parent  search context, {@code null} for the page itself
+     * @param locator element locator
+     *
+     * @return cached or freshly located element
+     *
+     * @throws NoSuchElementException if element is not found
+     */
+    WebElement findElement(CachedElement parent, By locator) {
+        final var path = new Path(parent == null ? null : parent.path(), locator, -1);
+        if (!ElementQueries.isSupported(locator)) {
+            return new CachedElement(this, parent, path, locate(parent, path));
+        }
+        final var cached = elements.get(path);
+        if (cached != null && isTrusted()) {
+            return cached;
+        }
+        final var result = lookup(parent, locator, cached == null);
+        if (result.size() == 1) { // same generation, cached element is still valid
+            return cached;
+        }
+        if (result.get(1) == null) {
+            throw new NoSuchElementException("Unable to locate element: " + locator);
+        }
+        final var element = new CachedElement(this, parent, path, (WebElement) result.get(1));
+        elements.put(path, element);
+        return element;
+    }
+
+    /**
+     * Lists are not cached, but elements are wrapped, so they also have stale fallback and mark DOM as changed.
+     *
+     * @param parent  search context, {@code null} for the page itself
+     * @param locator elements locator
+     *
+     * @return freshly located elements
+     */
+    List<WebElement> findElements(CachedElement parent, By locator) {
+        final var found = parent == null ? driver.findElements(locator) : parent.withRetry(e -> e.findElements(locator));
+        final var wrapped = new ArrayList<WebElement>(found.size());
+        for (int i = 0; i < found.size(); i++) {
+            final var path = new Path(parent == null ? null : parent.path(), locator, i);
+            wrapped.add(new CachedElement(this, parent, path, found.get(i)));
+        }
+        return wrapped;
+    }
+
+    /**
+     * Look up an element again, bypassing cache.
+     *
+     * @param parent search context, {@code null} for the page itself
+     * @param path   element path
+     *
+     * @return fresh original element
+     *
+     * @throws StaleElementReferenceException if element is gone
+     */
+    WebElement locate(CachedElement parent, Path path) {
+        if (path.index() < 0) {
+            return parent == null ? driver.findElement(path.locator()) :
+                   parent.withRetry(e -> e.findElement(path.locator()));
+        }
+        final var found = parent == null ? driver.findElements(path.locator()) :
+                          parent.withRetry(e -> e.findElements(path.locator()));
+        if (path.index() >= found.size()) {
+            throw new StaleElementReferenceException("Element is gone: %s [%d]".formatted(path.locator(),
+                                                                                           path.index()));
+        }
+        return found.get(path.index());
+    }
+
+    /**
+     * A command that may change the DOM was sent, next lookup validates generation.
+     */
+    void markDirty() {
+        dirty = true;
+    }
+
+    /**
+     * Document or browsing context has changed, drop everything.
+     */
+    void clear() {
+        dirty = true;
+        generation = null;
+        elements.clear();
+    }
+
+    private boolean isTrusted() {
+        return validityNanos > 0 && !dirty && System.nanoTime() - validatedAt < validityNanos;
+    }
+
+    private List<?> lookup(CachedElement parent, By locator, boolean required) {
+        final var parameters = ((By.Remotable) locator).getRemoteParameters();
+        final var result = parent == null ?
+                           execute(null, parameters, required) :
+                           parent.withRetry(root -> execute(root, parameters, required));
+        final var current = (String) result.get(0);
+        if (!current.equals(generation)) {
+            elements.clear();
+            generation = current;
+        }
+        validatedAt = System.nanoTime();
+        dirty = false;
+        return result;
+    }
+
+    private List<?> execute(WebElement root, By.Remotable.Parameters parameters, boolean required) {
+        return (List<?>) ElementQueries.executor(driver)
+                                       .executeScript(LOOKUP, root, parameters.using(), parameters.value(),
+                                                      generation, required);
+    }
+
+    /**
+     * Lookup path of an element.
+     *
+     * @param parent  path of search context, {@code null} for the page itself
+     * @param locator element locator
+     * @param index   index in {@code findElements} result, {@code -1} for {@code findElement}
+     */
+    record Path(Path parent, By locator, int index) {
+
+    }
+
+}
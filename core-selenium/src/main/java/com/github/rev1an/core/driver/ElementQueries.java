@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.driver;
+
+import java.util.List;
+import java.util.Set;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Element lookups with visibility checks, evaluated <em>inside</em> the page with a single
+ * {@link JavascriptExecutor#executeScript(String, Object...)} call.
+ * <p>
+ * Plain {@code findElements} followed by {@link WebElement#isDisplayed()} on each element costs N+1 round trips,
+ * which is noticeable on remote hubs. Here lookup, visibility and counting are done by the browser, and only
+ * a compact result (elements, count or boolean) is sent back.
+ * <p>
+ * Only {@link By.Remotable} locators can be translated to JavaScript, others (i.e. {@code ByChained}) fall back
+ * to regular WebDriver commands. Visibility check is an approximation of {@link WebElement#isDisplayed()} atom:
+ * an element must be rendered, not hidden by {@code visibility}/{@code opacity} and have non-empty size.
+ *
+ * @author rev1an (Sergey Alekseev)
+ */
+final class ElementQueries {
+
+    /**
+     * JavaScript functions shared with other in-page scripts:
+     * <ul>
+     *     <li>{@code find(root, using, value)} - array of elements located by {@link By.Remotable.Parameters}</li>
+     *     <li>{@code visible(element)} - visibility check</li>
+     * </ul>
+     */
+    static final String FUNCTIONS = """
+                                    function find(root, using, value) {
+                                        switch (using) {
+                                            case 'css selector': return Array.from(root.querySelectorAll(value));
+                                            case 'id': return Array.from(root.querySelectorAll('#' + CSS.escape(value)));
+                                            case 'name': return Array.from(root.querySelectorAll('[name="' + CSS.escape(value) + '"]'));
+                                            case 'class name': return Array.from(root.querySelectorAll('.' + CSS.escape(value)));
+                                            case 'tag name': return Array.from(root.getElementsByTagName(value));
+                                            case 'link text':
+                                            case 'partial link text':
+                                                return Array.from(root.querySelectorAll('a')).filter(function (a) {
+                                                    var text = (a.innerText || '').trim();
+                                                    return using === 'link text' ? text === value : text.indexOf(value) >= 0;
+                                                });
+                                            case 'xpath':
+                                                var found = [];
+                                                var snapshot = document.evaluate(value, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+                                                for (var i = 0; i < snapshot.snapshotLength; i++) {
+                                                    if (snapshot.snapshotItem(i).nodeType === Node.ELEMENT_NODE) {
+                                                        found.push(snapshot.snapshotItem(i));
+                                                    }
+                                                }
+                                                return found;
+                                        }
+                                        throw new Error('Unsupported locator strategy: ' + using);
+                                    }
+                                    function visible(e) {
+                                        if (typeof e.checkVisibility === 'function') {
+                                            if (!e.checkVisibility({checkOpacity: true, checkVisibilityCSS: true})) {
+                                                return false;
+                                            }
+                                        } else {
+                                            var style = window.getComputedStyle(e);
+                                            if (style.display === 'none' || style.visibility === 'hidden' || style.opacity === '0') {
+                                                return false;
+                                            }
+                                        }
+                                        var rect = e.getBoundingClientRect();
+                                        return rect.width > 0 && rect.height > 0;
+                                    }
+                                    """;
+
+    private static final String QUERY = FUNCTIONS + """
+                                                    var root = arguments[0] || document, mode = arguments[3], minimum = arguments[4];
+                                                    var elements = find(root, arguments[1], arguments[2]);
+                                                    switch (mode) {
+                                                        case 'absent': return elements.length === 0;
+                                                        case 'hidden': return elements.length === 0 || !visible(elements[0]);
+                                                        case 'visible': return elements.length > 0 && visible(elements[0]) ? elements[0] : null;
+                                                        case 'at-least': return elements.length >= minimum ? elements : elements.length;
+                                                    }
+                                                    var shown = elements.filter(visible).length;
+                                                    if (mode === 'all') {
+                                                        return shown === elements.length ? elements : shown;
+                                                    }
+                                                    return shown > 0 ? elements : shown;
+                                                    """;
+
+    private static final Set<String> SUPPORTED = Set.of("css selector", "id", "name", "class name", "tag name",
+                                                        "link text", "partial link text", "xpath");
+
+    private ElementQueries() {
+    }
+
+    /**
+     * @return {@code true} if {@code locator} can be evaluated inside the page
+     */
+    static boolean isSupported(By locator) {
+        return locator instanceof By.Remotable remotable &&
+               SUPPORTED.contains(remotable.getRemoteParameters().using()) &&
+               remotable.getRemoteParameters().value() instanceof String;
+    }
+
+    /**
+     * @return {@code true} if no element is located
+     */
+    static boolean absent(WebDriver driver, WebElement root, By locator) {
+        if (!isSupported(locator)) {
+            return context(driver, root).findElements(locator).isEmpty();
+        }
+        return (Boolean) query(driver, root, locator, "absent", 0);
+    }
+
+    /**
+     * @return {@code true} if no element is located, or first located element is not visible
+     */
+    static boolean hidden(WebDriver driver, WebElement root, By locator) {
+        if (!isSupported(locator)) {
+            final var elements = context(driver, root).findElements(locator);
+            return elements.isEmpty() || !elements.get(0).isDisplayed();
+        }
+        return (Boolean) query(driver, root, locator, "hidden", 0);
+    }
+
+    /**
+     * @return first located element if it's visible, {@code null} otherwise
+     */
+    static WebElement visible(WebDriver driver, WebElement root, By locator) {
+        if (!isSupported(locator)) {
+            final var elements = context(driver, root).findElements(locator);
+            return !elements.isEmpty() && elements.get(0).isDisplayed() ? elements.get(0) : null;
+        }
+        return (WebElement) query(driver, root, locator, "visible", 0);
+    }
+
+    /**
+     * @return located elements if <b>all</b> of them are visible
+     */
+    static Matches allVisible(WebDriver driver, WebElement root, By locator) {
+        if (!isSupported(locator)) {
+            final var elements = context(driver, root).findElements(locator);
+            final var shown = elements.stream().filter(WebElement::isDisplayed).count();
+            return new Matches(shown == elements.size() ? elements : null, shown);
+        }
+        return matches(query(driver, root, locator, "all", 0));
+    }
+
+    /**
+     * @return located elements if <b>any</b> of them is visible
+     */
+    static Matches anyVisible(WebDriver driver, WebElement root, By locator) {
+        if (!isSupported(locator)) {
+            final var elements = context(driver, root).findElements(locator);
+            final var shown = elements.stream().filter(WebElement::isDisplayed).count();
+            return new Matches(shown > 0 ? elements : null, shown);
+        }
+        return matches(query(driver, root, locator, "any", 0));
+    }
+
+    /**
+     * @return located elements if there are at least {@code minimum} of them
+     */
+    static Matches atLeast(WebDriver driver, WebElement root, By locator, int minimum) {
+        if (!isSupported(locator)) {
+            final var elements = context(driver, root).findElements(locator);
+            return new Matches(elements.size() >= minimum ? elements : null, elements.size());
+        }
+        return matches(query(driver, root, locator, "at-least", minimum));
+    }
+
+    private static Object query(WebDriver driver, WebElement root, By locator, String mode, int minimum) {
+        final var parameters = ((By.Remotable) locator).getRemoteParameters();
+        return executor(driver).executeScript(QUERY, root, parameters.using(), parameters.value(), mode, minimum);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Matches matches(Object result) {
+        if (result instanceof List<?> elements) {
+            return new Matches((List<WebElement>) elements, elements.size());
+        }
+        return new Matches(null, ((Number) result).longValue());
+    }
+
+    private static SearchContext context(WebDriver driver, WebElement root) {
+        return root == null ? driver : root;
+    }
+
+    /**
+     * {@link WrappedDriver#executeScript(String, Object...)} wraps all errors into {@link RuntimeException},
+     * but waits must see original {@link org.openqa.selenium.WebDriverException}s to ignore them.
+     */
+    static JavascriptExecutor executor(WebDriver driver) {
+        return (JavascriptExecutor) (driver instanceof WrappedDriver wrapped ? wrapped.getWrappedDriver() : driver);
+    }
+
+    /**
+     * Result of list queries.
+     *
+     * @param elements located elements if condition is satisfied, {@code null} otherwise
+     * @param count    number of elements that were taken into account, for reporting
+     */
+    record Matches(List<WebElement> elements, long count) {
+
+    }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.driver;
+
+import java.util.Map;
+
+/**
+ * State of one element, captured by {@link DriverUtilities#snapshot(java.util.Collection, java.util.Set, String...)}.
+ * <p>
+ * Properties that were not requested are {@code null}.
+ *
+ * @param index      index of element among elements found by the same locator
+ * @param tagName    lower case tag name
+ * @param text       rendered text, like {@link org.openqa.selenium.WebElement#getText()}
+ * @param visible    visibility, like {@link org.openqa.selenium.WebElement#isDisplayed()}
+ * @param rect       bounding box relative to the document, like {@link org.openqa.selenium.WebElement#getRect()}
+ * @param attributes requested attributes, absent attributes have {@code null} values
+ *
+ * @author rev1an (Sergey Alekseev)
+ * @see DriverUtilities#snapshot(java.util.Collection, java.util.Set, String...)
+ */
+public record ElementSnapshot(int index,
+                              String tagName,
+                              String text,
+                              Boolean visible,
+                              Rect rect,
+                              Map<String, String> attributes) {
+
+    /**
+     * Properties that can be captured, tag name is always captured.
+     */
+    public enum Property {
+        TEXT,
+        VISIBLE,
+        RECT
+    }
+
+    /**
+     * Element bounding box in CSS pixels.
+     */
+    public record Rect(double x,
+                       double y,
+                       double width,
+                       double height) {
+
+    }
+
+}
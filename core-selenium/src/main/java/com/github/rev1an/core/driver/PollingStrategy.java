@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.driver;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import org.openqa.selenium.support.ui.Sleeper;
+
+/**
+ * Defines how long {@link Waiter} sleeps between polls.
+ * <p>
+ * Fixed interval either wastes time on fast conditions, or floods a remote hub with commands on slow ones.
+ * Strategies that start fast and back off solve both:
+ * <ul>
+ *     <li>{@link #fixed(Duration)} - same interval every time, plain {@link org.openqa.selenium.support.ui.FluentWait}
+ *     behaviour</li>
+ *     <li>{@link #exponential(Duration, double, Duration)} - interval grows with each poll, up to a cap</li>
+ *     <li>{@link #fastFirst(Duration, int, PollingStrategy)} - a few quick polls, then another strategy</li>
+ *     <li>{@link #withJitter(double)} - randomized interval, so parallel sessions don't poll in lockstep</li>
+ * </ul>
+ *
+ * @author rev1an (Sergey Alekseev)
+ * @see Waiter#withPolling(PollingStrategy)
+ * @see DriverTimeouts#polling()
+ */
+@FunctionalInterface
+public interface PollingStrategy {
+
+    /**
+     * @param poll number of polls already made, starting with {@code 1}
+     *
+     * @return time to sleep before next poll
+     */
+    Duration delay(int poll);
+
+    /**
+     * Create a new {@link Sleeper} for one wait. It ignores interval provided by
+     * {@link org.openqa.selenium.support.ui.FluentWait}, and sleeps according to this strategy instead,
+     * but never past the end of {@code timeout}.
+     *
+     * @param timeout wait timeout
+     *
+     * @return new stateful {@link Sleeper}
+     */
+    default Sleeper newSleeper(Duration timeout) {
+        final var deadline = System.nanoTime() + timeout.toNanos();
+        final var polls = new int[]{0};
+        return ignore -> {
+            final var remaining = Math.max(0, deadline - System.nanoTime());
+            final var delay = Math.min(delay(++polls[0]).toNanos(), remaining);
+            Thread.sleep(delay / 1_000_000, (int) (delay % 1_000_000));
+        };
+    }
+
+    /**
+     * Randomize each delay by up to {@code ratio} in both directions.
+     *
+     * @param ratio i.e. {@code 0.2} for ±20%, from {@code 0} inclusive to {@code 1} exclusive
+     *
+     * @return new strategy on top of this one, or this one for {@code 0}
+     *
+     * @throws IllegalArgumentException if ratio is out of range
+     */
+    default PollingStrategy withJitter(double ratio) {
+        if (!(ratio >= 0 && ratio < 1)) {
+            throw new IllegalArgumentException("Jitter ratio must be in [0, 1), but was %s".formatted(ratio));
+        }
+        if (ratio == 0) {
+            return this;
+        }
+        return poll -> {
+            final var delay = delay(poll).toNanos();
+            final var factor = 1 + ThreadLocalRandom.current().nextDouble(-ratio, ratio);
+            return Duration.ofNanos((long) (delay * factor));
+        };
+    }
+
+    /**
+     * @param interval duration to sleep between polls
+     *
+     * @return strategy with the same delay after each poll
+     */
+    static PollingStrategy fixed(Duration interval) {
+        return poll -> interval;
+    }
+
+    /**
+     * @param initial    delay after the first poll
+     * @param multiplier delay growth after each poll
+     * @param cap        maximum delay
+     *
+     * @return strategy with exponentially growing delay
+     */
+    static PollingStrategy exponential(Duration initial, double multiplier, Duration cap) {
+        final var initialNanos = initial.toNanos();
+        final var capNanos = cap.toNanos();
+        return poll -> Duration.ofNanos((long) Math.min(capNanos, initialNanos * Math.pow(multiplier, poll - 1)));
+    }
+
+    /**
+     * @param fast      delay for the first polls
+     * @param fastPolls number of polls with {@code fast} delay
+     * @param then      strategy to use afterwards, its poll numbering starts with {@code 1}
+     *
+     * @return strategy that catches fast conditions quickly, and backs off on slow ones
+     */
+    static PollingStrategy fastFirst(Duration fast, int fastPolls, PollingStrategy then) {
+        return poll -> poll <= fastPolls ? fast : then.delay(poll - fastPolls);
+    }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.driver;
+
+import java.time.Duration;
+
+/**
+ * Encapsulated parameters that bound how long {@link WrappedDriverFactory} tries to create a session.
+ *
+ * @param deadline         overall time for one session, including retries, {@link Duration#ZERO} means unbounded
+ * @param retries          how many times a failed attempt is repeated
+ * @param backoff          delay before the first retry, doubled for each next one, with ±50% random jitter
+ * @param breakerThreshold after that many sessions in a row are not created, new requests fail fast,
+ *                         {@code 0} disables circuit breaker
+ * @param breakerCooldown  how long new requests fail fast, then a single trial request is let through
+ *
+ * @author rev1an (Sergey Alekseev)
+ * @see SessionCreator
+ */
+public record SessionCreationPolicy(Duration deadline,
+                                    int retries,
+                                    Duration backoff,
+                                    int breakerThreshold,
+                                    Duration breakerCooldown) {
+
+    /**
+     * Single attempt without deadline, as if there was no policy at all.
+     */
+    public static final SessionCreationPolicy NONE = new SessionCreationPolicy(Duration.ZERO, 0, Duration.ZERO,
+                                                                               0, Duration.ZERO);
+
+    /**
+     * @return {@code true} if session creation should be bounded by {@link #deadline()}
+     */
+    public boolean hasDeadline() {
+        return !deadline.isZero();
+    }
+
+}
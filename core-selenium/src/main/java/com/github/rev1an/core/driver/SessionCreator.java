@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.driver;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import com.github.rev1an.core.util.AimdLimiter;
+import com.github.rev1an.core.util.VirtualThreads;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Applies {@link SessionCreationPolicy} to session creation.
+ * <p>
+ * When a deadline is set, each attempt runs on a separate (virtual) thread, so a hub that hangs can't block the
+ * caller beyond the deadline. A session that is created after its caller gave up is quit right away.
+ * <p>
+ * Circuit breaker is shared by all sessions of one factory: once {@code breakerThreshold} sessions in a row are not
+ * created, requests fail fast with {@link SessionNotCreatedException} for {@code breakerCooldown}. After that, one
+ * trial request is let through, while others keep failing fast; its success closes the circuit.
+ * <p>
+ * Session creation time and failures are reported to {@link AimdLimiter}, if installed.
+ *
+ * @author rev1an (Sergey Alekseev)
+ */
+final class SessionCreator {
+
+    private static final Logger LOG = LogManager.getLogger(SessionCreator.class);
+    private static final ExecutorService EXECUTOR = VirtualThreads.newExecutor("session-creator");
+
+    private final SessionCreationPolicy policy;
+
+    private int failures = 0;
+    private long openUntil = 0;
+    private boolean trial = false;
+    private Throwable lastFailure = null;
+
+    SessionCreator(SessionCreationPolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * @param builder creates one session, i.e. {@link DriverBuilder#build()}
+     *
+     * @return new session
+     *
+     * @throws SessionNotCreatedException if circuit is open or deadline has passed
+     * @throws WebDriverException         last failure, if all attempts failed
+     * @throws RuntimeException           any other failure of the builder, not retried
+     */
+    WebDriver create(Supplier<WebDriver> builder) {
+        final var trialRequest = admit();
+        final var start = System.nanoTime();
+        try {
+            final var driver = attempt(builder);
+            succeeded();
+            AimdLimiter.report("session", System.nanoTime() - start, false);
+            return driver;
+        } catch (RuntimeException | Error e) { // any failure ends the trial, or circuit would never close again
+            failed(e, trialRequest);
+            AimdLimiter.report("session", System.nanoTime() - start, true);
+            throw e;
+        }
+    }
+
+    private WebDriver attempt(Supplier<WebDriver> builder) {
+        final var start = System.nanoTime();
+        final var deadline = start + policy.deadline().toNanos();
+        WebDriverException failure = null;
+        int attempts = 0;
+        for (int attempt = 0; attempt <= policy.retries(); attempt++) {
+            if (attempt > 0) {
+                final var delay = Math.round(policy.backoff().toNanos() * Math.pow(2, attempt - 1)
+                                             * ThreadLocalRandom.current().nextDouble(0.5, 1.5));
+                if (policy.hasDeadline() && System.nanoTime() + delay >= deadline) {
+                    break;
+                }
+                LOG.warn("Session is not created, retry #{} in {} ms: {}", attempt, delay / 1_000_000,
+                         failure.getRawMessage());
+                sleep(delay);
+            }
+            attempts++;
+            try {
+                return policy.hasDeadline() ? within(builder, deadline - System.nanoTime()) : builder.get();
+            } catch (WebDriverException e) {
+                failure = e;
+            }
+            if (failure instanceof DeadlineException) {
+                break;
+            }
+        }
+        if (attempts == 1 && !(failure instanceof DeadlineException)) {
+            throw failure;
+        }
+        throw new SessionNotCreatedException("Session is not created in %d attempt(s) within %d ms".formatted(
+                attempts, (System.nanoTime() - start) / 1_000_000), failure);
+    }
+
+    private static WebDriver within(Supplier<WebDriver> builder, long nanos) {
+        final var future = CompletableFuture.supplyAsync(builder, EXECUTOR);
+        try {
+            return future.get(nanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.thenAccept(SessionCreator::quitOrphan);
+            throw new DeadlineException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new WebDriverException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.thenAccept(SessionCreator::quitOrphan);
+            throw new WebDriverException("Interrupted while creating a session", e);
+        }
+    }
+
+    private static void quitOrphan(WebDriver driver) {
+        LOG.warn("Session is created after deadline, quitting it");
+        try {
+            driver.quit();
+        } catch (RuntimeException e) {
+            LOG.warn("Cannot quit orphan session", e);
+        }
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while creating a session", e);
+        }
+    }
+
+    /**
+     * @return {@code true} if this request is the trial one after cooldown
+     */
+    private synchronized boolean admit() {
+        if (policy.breakerThreshold() <= 0 || failures < policy.breakerThreshold()) {
+            return false;
+        }
+        if (trial || System.nanoTime() - openUntil < 0) {
+            throw new SessionNotCreatedException(
+                    "Circuit is open: %d sessions in a row are not created, failing fast for %s".formatted(
+                            failures, policy.breakerCooldown()), lastFailure);
+        }
+        trial = true;
+        return true;
+    }
+
+    private synchronized void succeeded() {
+        if (failures >= policy.breakerThreshold() && policy.breakerThreshold() > 0) {
+            LOG.info("Circuit is closed, session is created");
+        }
+        failures = 0;
+        trial = false;
+        lastFailure = null;
+    }
+
+    private synchronized void failed(Throwable e, boolean trialRequest) {
+        if (trialRequest) {
+            trial = false;
+        }
+        lastFailure = e;
+        if (++failures >= policy.breakerThreshold() && policy.breakerThreshold() > 0) {
+            openUntil = System.nanoTime() + policy.breakerCooldown().toNanos();
+            LOG.warn("Circuit is open for {} after {} failed session(s)", policy.breakerCooldown(), failures);
+        }
+    }
+
+    private static final class DeadlineException extends WebDriverException {
+
+        private DeadlineException() {
+            super("Deadline has passed");
+        }
+
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.driver;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import com.github.rev1an.core.metrics.LatencyHistogram;
+
+/**
+ * Run-level statistics of {@link Waiter} calls, grouped by condition description.
+ * <p>
+ * Disabled by default, once {@link #enable()}d every wait records its elapsed time, number of polls and outcome.
+ * Descriptions are taken before the first poll, session ids are masked, so waits on the same locator from different
+ * sessions end up in the same group.
+ *
+ * @author rev1an (Sergey Alekseev)
+ * @see Waiter#newWait(java.time.Duration)
+ */
+public final class WaitStatistics {
+
+    private static final Pattern SESSION_ID = Pattern.compile("\\(([0-9a-fA-F]{32}|[0-9a-fA-F-]{36})\\)");
+    private static final Map<String, Condition> CONDITIONS = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled = false;
+
+    private WaitStatistics() {
+    }
+
+    /**
+     * Start recording statistics for all {@link Waiter}s.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * @return {@code true} if statistics are recorded
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Forget all recorded statistics.
+     */
+    public static void reset() {
+        CONDITIONS.clear();
+    }
+
+    /**
+     * @param description condition description, as returned by its {@code toString()}
+     * @param nanos       elapsed time
+     * @param polls       number of condition evaluations
+     * @param outcome     how the wait ended
+     */
+    static void record(String description, long nanos, int polls, Outcome outcome) {
+        final var key = SESSION_ID.matcher(description).replaceAll("(*)");
+        CONDITIONS.computeIfAbsent(key, ignore -> new Condition()).record(nanos, polls, outcome);
+    }
+
+    /**
+     * @return statistics per condition, conditions with the highest total time go first
+     */
+    public static List<Entry> entries() {
+        return CONDITIONS.entrySet()
+                         .stream()
+                         .map(entry -> entry.getValue().toEntry(entry.getKey()))
+                         .sorted(Comparator.comparingLong(Entry::totalNanos).reversed())
+                         .toList();
+    }
+
+    /**
+     * @return human-readable table with count, timeouts, errors, p50, p95, max and average polls per condition
+     */
+    public static String summary() {
+        final var summary = new StringBuilder("%8s %8s %8s %10s %10s %10s %9s  %s%n".formatted(
+                "count", "timeouts", "errors", "p50, ms", "p95, ms", "max, ms", "avg polls", "condition"));
+        for (final var entry : entries()) {
+            final var elapsed = entry.elapsed();
+            summary.append("%8d %8d %8d %10.1f %10.1f %10.1f %9.1f  %s%n".formatted(
+                    elapsed.count(), entry.timeouts(), entry.errors(),
+                    elapsed.p50() / 1e6, elapsed.p95() / 1e6, elapsed.max() / 1e6,
+                    (double) entry.polls() / Math.max(1, elapsed.count()),
+                    entry.condition().replace('\n', ' ')));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * How a single wait ended.
+     */
+    public enum Outcome {
+        SUCCESS,
+        TIMEOUT,
+        /**
+         * Condition threw an exception that wasn't ignored.
+         */
+        ERROR
+    }
+
+    /**
+     * Statistics of one condition.
+     *
+     * @param condition condition description
+     * @param elapsed   elapsed time of all waits, in nanoseconds
+     * @param polls     total number of polls
+     * @param timeouts  number of waits that timed out
+     * @param errors    number of waits that failed with an exception
+     */
+    public record Entry(String condition,
+                        LatencyHistogram.Snapshot elapsed,
+                        long polls,
+                        long timeouts,
+                        long errors) {
+
+        /**
+         * @return approximate time spent in this condition, in nanoseconds
+         */
+        public long totalNanos() {
+            return elapsed.mean() * elapsed.count();
+        }
+
+    }
+
+    private static final class Condition {
+
+        private final LatencyHistogram elapsed = new LatencyHistogram();
+        private final LongAdder polls = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        private void record(long nanos, int polls, Outcome outcome) {
+            this.elapsed.record(nanos);
+            this.polls.add(polls);
+            switch (outcome) {
+                case TIMEOUT -> timeouts.increment();
+                case ERROR -> errors.increment();
+                default -> {
+                }
+            }
+        }
+
+        private Entry toEntry(String condition) {
+            return new Entry(condition, elapsed.snapshot(), polls.sum(), timeouts.sum(), errors.sum());
+        }
+
+    }
+
+}
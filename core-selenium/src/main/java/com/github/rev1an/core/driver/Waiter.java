@@ -6,6 +6,7 @@
 
 package com.github.rev1an.core.driver;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.util.List;
 import java.util.function.Function;
@@ -19,10 +20,16 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.Sleeper;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 /**
  * Collection of {@link  WebDriverWait} shortcuts, gathered in one place for usability purposes.
+ * <p>
+ * Visibility, absence and list conditions are evaluated inside the page, one
+ * {@link JavascriptExecutor#executeScript(String, Object...)} per poll, see {@link ElementQueries}.
+ * <p>
+ * Each wait reports its elapsed time, polls and outcome to {@link WaitStatistics}, if enabled.
  *
  * @author rev1an (Sergey Alekseev)
  */
@@ -34,6 +41,7 @@ public final class Waiter {
     private final WrappedDriver driver;
     private final Duration timeout;
     private final Duration pollingFrequency;
+    private final PollingStrategy polling;
 
     /**
      * Instance of this class always attached to one concrete {@link WrappedDriver}.
@@ -45,6 +53,31 @@ public final class Waiter {
         this.driver = driver;
         this.timeout = timeouts.timeout().isZero() ? DEFAULT_TIMEOUT : timeouts.timeout();
         this.pollingFrequency = timeouts.pollingFrequency().isZero() ? DEFAULT_POLLING_F : timeouts.pollingFrequency();
+        this.polling = timeouts.polling() != null ? timeouts.polling() : PollingStrategy.fixed(this.pollingFrequency);
+    }
+
+    private Waiter(Waiter waiter, PollingStrategy polling) {
+        this.driver = waiter.driver;
+        this.timeout = waiter.timeout;
+        this.pollingFrequency = waiter.pollingFrequency;
+        this.polling = polling;
+    }
+
+    /**
+     * Create a {@link Waiter} attached to the same {@link WrappedDriver}, but with a different polling strategy,
+     * i.e. for a single call:
+     * <pre>
+     * driver.waiter()
+     *       .withPolling(PollingStrategy.exponential(Duration.ofMillis(50), 2, Duration.ofSeconds(2)))
+     *       .forElementVisibleBy(locator);
+     * </pre>
+     *
+     * @param polling desired polling strategy
+     *
+     * @return new {@link Waiter}
+     */
+    public Waiter withPolling(PollingStrategy polling) {
+        return new Waiter(this, polling);
     }
 
     /**
@@ -55,14 +88,26 @@ public final class Waiter {
     }
 
     /**
-     * Create new {@link WebDriverWait} with preconfigured {@code pollingFrequency}
+     * Create new {@link WebDriverWait} with preconfigured {@link PollingStrategy}
      *
      * @param timeout desired timeout
      *
      * @return new {@link WebDriverWait} with provided {@code timeout}
      */
     public WebDriverWait newWait(Duration timeout) {
-        return new WebDriverWait(this.driver, timeout, this.pollingFrequency);
+        return newWait(timeout, this.polling);
+    }
+
+    /**
+     * Create new {@link WebDriverWait} with provided {@link PollingStrategy}
+     *
+     * @param timeout desired timeout
+     * @param polling desired polling strategy
+     *
+     * @return new {@link WebDriverWait} with provided {@code timeout} and {@code polling}
+     */
+    public WebDriverWait newWait(Duration timeout, PollingStrategy polling) {
+        return new RecordingWait(this.driver, timeout, this.pollingFrequency, new PerWaitSleeper(polling, timeout));
     }
 
     public WebElement forElementPresenceBy(By locator) {
@@ -81,8 +126,7 @@ public final class Waiter {
         return newWait(timeout).until(new Function<>() {
             public Boolean apply(WebDriver driver) {
                 try {
-                    driver.findElement(locator).isDisplayed();
-                    return false;
+                    return ElementQueries.absent(driver, null, locator);
                 } catch (NoSuchElementException | StaleElementReferenceException e) {
                     return true;
                 }
@@ -99,7 +143,21 @@ public final class Waiter {
     }
 
     public WebElement forElementVisibleBy(Duration timeout, By locator) {
-        return newWait(timeout).until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return newWait(timeout).until(new Function<>() {
+            @Override
+            public WebElement apply(WebDriver driver) {
+                try {
+                    return ElementQueries.visible(driver, null, locator);
+                } catch (StaleElementReferenceException e) {
+                    return null;
+                }
+            }
+
+            @Override
+            public String toString() {
+                return "visibility of element located by " + locator;
+            }
+        });
     }
 
     public Boolean forElementInvisibleBy(By locator) {
@@ -107,7 +165,21 @@ public final class Waiter {
     }
 
     public Boolean forElementInvisibleBy(Duration timeout, By locator) {
-        return newWait(timeout).until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        return newWait(timeout).until(new Function<>() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                try {
+                    return ElementQueries.hidden(driver, null, locator);
+                } catch (StaleElementReferenceException e) {
+                    return true;
+                }
+            }
+
+            @Override
+            public String toString() {
+                return "element to no longer be visible: " + locator;
+            }
+        });
     }
 
     public WebElement forElementVisible(WebElement element) {
@@ -406,7 +478,7 @@ public final class Waiter {
             @Override
             public Boolean apply(WebDriver driver) {
                 try {
-                    return !root.findElement(locator).isDisplayed();
+                    return ElementQueries.hidden(driver, root, locator);
                 } catch (NoSuchElementException | StaleElementReferenceException e) {
                     return true;
                 }
@@ -428,16 +500,12 @@ public final class Waiter {
             @Override
             public WebElement apply(WebDriver driver) {
                 try {
-                    return isVisible(root.findElement(locator));
+                    return ElementQueries.visible(driver, root, locator);
                 } catch (StaleElementReferenceException | NoSuchElementException e) {
                     return null;
                 }
             }
 
-            private WebElement isVisible(WebElement element) {
-                return element.isDisplayed() ? element : null;
-            }
-
             @Override
             public String toString() {
                 return "visibility of Child Element '%s' from root: %s".formatted(locator, root);
@@ -481,9 +549,9 @@ public final class Waiter {
             @Override
             public List<WebElement> apply(WebDriver driver) {
                 try {
-                    final var elements = root.findElements(locator);
-                    this.current = elements.size();
-                    return (this.current >= minimum) ? elements : null;
+                    final var matches = ElementQueries.atLeast(driver, root, locator, minimum);
+                    this.current = (int) matches.count();
+                    return matches.elements();
                 } catch (NoSuchElementException e) {
                     return null;
                 }
@@ -507,12 +575,7 @@ public final class Waiter {
             @Override
             public List<WebElement> apply(WebDriver driver) {
                 try {
-                    final var elements = root.findElements(locator);
-                    if (elements.stream().allMatch(WebElement::isDisplayed)) {
-                        return elements;
-                    } else {
-                        return null;
-                    }
+                    return ElementQueries.allVisible(driver, root, locator).elements();
                 } catch (NoSuchElementException e) {
                     return null;
                 }
@@ -535,12 +598,7 @@ public final class Waiter {
             @Override
             public List<WebElement> apply(WebDriver driver) {
                 try {
-                    final var elements = root.findElements(locator);
-                    if (elements.stream().anyMatch(WebElement::isDisplayed)) {
-                        return elements;
-                    } else {
-                        return null;
-                    }
+                    return ElementQueries.anyVisible(driver, root, locator).elements();
                 } catch (NoSuchElementException | IndexOutOfBoundsException | NullPointerException e) {
                     return null;
                 }
@@ -589,4 +647,78 @@ public final class Waiter {
         });
     }
 
+    /**
+     * {@link WebDriverWait} that reports each {@link #until(Function)} call to {@link WaitStatistics}.
+     */
+    private static final class RecordingWait extends WebDriverWait {
+
+        private final PerWaitSleeper sleeper;
+
+        private RecordingWait(WebDriver driver, Duration timeout, Duration sleep, PerWaitSleeper sleeper) {
+            super(driver, timeout, sleep, Clock.systemDefaultZone(), sleeper);
+            this.sleeper = sleeper;
+        }
+
+        @Override
+        public <V> V until(Function<? super WebDriver, V> isTrue) {
+            sleeper.reset();
+            if (!WaitStatistics.isEnabled()) {
+                return super.until(isTrue);
+            }
+            final var description = isTrue.toString();
+            final var polls = new int[]{0};
+            final var start = System.nanoTime();
+            var outcome = WaitStatistics.Outcome.ERROR;
+            try {
+                final var value = super.until(new Function<WebDriver, V>() {
+                    @Override
+                    public V apply(WebDriver driver) {
+                        polls[0]++;
+                        return isTrue.apply(driver);
+                    }
+
+                    @Override
+                    public String toString() {
+                        return isTrue.toString();
+                    }
+                });
+                outcome = WaitStatistics.Outcome.SUCCESS;
+                return value;
+            } catch (TimeoutException e) {
+                outcome = WaitStatistics.Outcome.TIMEOUT;
+                throw e;
+            } finally {
+                WaitStatistics.record(description, System.nanoTime() - start, polls[0], outcome);
+            }
+        }
+
+    }
+
+    /**
+     * {@link Sleeper} of a {@link PollingStrategy}, which deadline and poll count start over with each
+     * {@link RecordingWait#until(Function)}, so a reused wait doesn't continue the backoff of the previous one.
+     */
+    private static final class PerWaitSleeper implements Sleeper {
+
+        private final PollingStrategy polling;
+        private final Duration timeout;
+        private Sleeper current;
+
+        private PerWaitSleeper(PollingStrategy polling, Duration timeout) {
+            this.polling = polling;
+            this.timeout = timeout;
+            reset();
+        }
+
+        private void reset() {
+            this.current = polling.newSleeper(timeout);
+        }
+
+        @Override
+        public void sleep(Duration duration) throws InterruptedException {
+            current.sleep(duration);
+        }
+
+    }
+
 }
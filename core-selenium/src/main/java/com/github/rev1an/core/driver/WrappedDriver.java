@@ -6,6 +6,7 @@
 
 package com.github.rev1an.core.driver;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -24,7 +25,7 @@ import org.openqa.selenium.html5.WebStorage;
 /**
  * A simple wrapper around any {@link WebDriver} implementation.
  * <p>
- * Helps to avoid casting.
+ * Helps to avoid casting. Optionally, caches located elements, see {@link ElementCache}.
  *
  * @author rev1an (Sergey Alekseev)
  * @see WebDriver
@@ -40,11 +41,24 @@ public class WrappedDriver implements WebDriver,
     private final WebDriver internal;
     private final Waiter waiter;
     private final DriverUtilities utilities;
+    private final ElementCache elementCache;
 
     public WrappedDriver(WebDriver driver, DriverTimeouts timeouts) {
+        this(driver, timeouts, null);
+    }
+
+    /**
+     * @param driver               original driver
+     * @param timeouts             encapsulated timeout settings
+     * @param elementCacheValidity how long cached elements are trusted without checking the DOM,
+     *                             {@link Duration#ZERO} checks it with every lookup, {@code null} disables
+     *                             element cache
+     */
+    public WrappedDriver(WebDriver driver, DriverTimeouts timeouts, Duration elementCacheValidity) {
         this.internal = driver;
         this.waiter = new Waiter(this, timeouts);
         this.utilities = new DriverUtilities(this);
+        this.elementCache = elementCacheValidity != null ? new ElementCache(driver, elementCacheValidity) : null;
     }
 
     /**
@@ -63,6 +77,7 @@ public class WrappedDriver implements WebDriver,
 
     @Override
     public void get(String url) {
+        invalidateElements();
         this.internal.get(url);
     }
 
@@ -78,12 +93,12 @@ public class WrappedDriver implements WebDriver,
 
     @Override
     public List<WebElement> findElements(By by) {
-        return this.internal.findElements(by);
+        return this.elementCache != null ? this.elementCache.findElements(null, by) : this.internal.findElements(by);
     }
 
     @Override
     public WebElement findElement(By by) {
-        return this.internal.findElement(by);
+        return this.elementCache != null ? this.elementCache.findElement(null, by) : this.internal.findElement(by);
     }
 
     @Override
@@ -93,11 +108,13 @@ public class WrappedDriver implements WebDriver,
 
     @Override
     public void close() {
+        invalidateElements();
         this.internal.close();
     }
 
     @Override
     public void quit() {
+        invalidateElements();
         this.internal.quit();
     }
 
@@ -113,11 +130,13 @@ public class WrappedDriver implements WebDriver,
 
     @Override
     public TargetLocator switchTo() {
+        invalidateElements();
         return this.internal.switchTo();
     }
 
     @Override
     public Navigation navigate() {
+        invalidateElements();
         return this.internal.navigate();
     }
 
@@ -133,6 +152,7 @@ public class WrappedDriver implements WebDriver,
 
     @Override
     public Object executeScript(String script, Object... args) {
+        markDomChanged();
         try {
             return ((JavascriptExecutor) this.internal).executeScript(script, args);
         } catch (WebDriverException e) {
@@ -142,6 +162,7 @@ public class WrappedDriver implements WebDriver,
 
     @Override
     public Object executeAsyncScript(String script, Object... args) {
+        markDomChanged();
         try {
             return ((JavascriptExecutor) this.internal).executeAsyncScript(script, args);
         } catch (WebDriverException e) {
@@ -162,4 +183,22 @@ public class WrappedDriver implements WebDriver,
         return ((WebStorage) this.internal).getSessionStorage();
     }
 
+    /**
+     * Document or browsing context is about to change, cached elements are useless.
+     */
+    private void invalidateElements() {
+        if (this.elementCache != null) {
+            this.elementCache.clear();
+        }
+    }
+
+    /**
+     * Arbitrary script may change the DOM, cached elements must be validated.
+     */
+    private void markDomChanged() {
+        if (this.elementCache != null) {
+            this.elementCache.markDirty();
+        }
+    }
+
 }
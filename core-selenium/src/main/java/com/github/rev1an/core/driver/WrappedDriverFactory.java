@@ -7,8 +7,13 @@
 package com.github.rev1an.core.driver;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import com.github.rev1an.core.driver.builder.LocalDriverBuilder;
 import com.github.rev1an.core.driver.builder.RemoteDriverBuilder;
+import com.github.rev1an.core.util.AimdLimiter;
+import com.github.rev1an.core.util.VirtualThreads;
 import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.WebDriver;
 
@@ -19,9 +24,15 @@ import org.openqa.selenium.WebDriver;
  */
 public final class WrappedDriverFactory {
 
+    /**
+     * Session creation is pure waiting for browser or remote hub, a perfect fit for virtual threads.
+     */
+    private static final ExecutorService ASYNC_EXECUTOR = VirtualThreads.newExecutor("wrapped-driver-factory");
+
     private final Capabilities capabilities;
     private final DriverSettings settings;
     private final DriverBuilder<WebDriver> builder;
+    private final SessionCreator creator;
 
     /**
      * {@link Capabilities} and {@link DriverSettings} must be initialized before creating a new
@@ -31,23 +42,88 @@ public final class WrappedDriverFactory {
      * @param settings     fully initialized driver settings
      */
     public WrappedDriverFactory(Capabilities capabilities, DriverSettings settings) {
+        this(capabilities, settings, SessionCreationPolicy.NONE);
+    }
+
+    /**
+     * @param capabilities desired browser settings
+     * @param settings     fully initialized driver settings
+     * @param policy       deadline, retries and circuit breaker for session creation
+     */
+    public WrappedDriverFactory(Capabilities capabilities, DriverSettings settings, SessionCreationPolicy policy) {
         this.capabilities = capabilities;
         this.settings = settings;
         this.builder = resolveBuilder();
+        this.creator = new SessionCreator(policy);
     }
 
     /**
      * Create a new {@link WrappedDriver}.
+     * <p>
+     * Session creation is bounded by {@link SessionCreationPolicy}.
+     * If {@link CommandMetrics} are enabled, or an {@link AimdLimiter} is installed, the driver is decorated
+     * to time every command.
      *
      * @return new {@link WebDriver} instance wrapped in {@link WrappedDriver}
+     *
+     * @throws org.openqa.selenium.SessionNotCreatedException if session is not created within policy bounds
      */
     public WrappedDriver build() {
-        final var driver = builder.build();
+        final var session = creator.create(builder::build);
+        final var driver = CommandMetrics.isEnabled() || AimdLimiter.isInstalled() ?
+                           CommandMetrics.decorate(session) :
+                           session;
         driver.manage()
               .timeouts()
               .implicitlyWait(Duration.ZERO)
               .pageLoadTimeout(settings.timeouts().pageLoadTimeout());
-        return new WrappedDriver(driver, settings.timeouts());
+        return new WrappedDriver(driver, settings.timeouts(), settings.elementCacheValidity());
+    }
+
+    /**
+     * Create a new {@link WrappedDriver} without blocking current thread.
+     * <p>
+     * Session is created on a virtual thread, if running JVM supports them.
+     *
+     * @return future completed with new {@link WebDriver} instance wrapped in {@link WrappedDriver}
+     *
+     * @see VirtualThreads
+     */
+    public CompletableFuture<WrappedDriver> buildAsync() {
+        return buildAsync(ASYNC_EXECUTOR);
+    }
+
+    /**
+     * Create a new {@link WrappedDriver} in provided {@link Executor}.
+     *
+     * @param executor executor to create a session in
+     *
+     * @return future completed with new {@link WebDriver} instance wrapped in {@link WrappedDriver}
+     */
+    public CompletableFuture<WrappedDriver> buildAsync(Executor executor) {
+        return CompletableFuture.supplyAsync(this::build, executor);
+    }
+
+    /**
+     * Create a new {@link WrappedDriverPrefetcher}, that keeps sessions built by this factory ready in advance.
+     *
+     * @param depth number of sessions being created in advance
+     *
+     * @return new {@link WrappedDriverPrefetcher} with sessions creation already started
+     */
+    public WrappedDriverPrefetcher newPrefetcher(int depth) {
+        return new WrappedDriverPrefetcher(this, depth);
+    }
+
+    /**
+     * Create a new {@link WrappedDriverPool}, that lends warm sessions built by this factory.
+     *
+     * @param poolSettings pool settings
+     *
+     * @return new {@link WrappedDriverPool} with sessions already spawned
+     */
+    public WrappedDriverPool newPool(DriverPoolSettings poolSettings) {
+        return new WrappedDriverPool(this, poolSettings);
     }
 
     /**
@@ -58,7 +134,8 @@ public final class WrappedDriverFactory {
      *     <li>already running 'chromedriver', 'geckodriver' service is required.</li>
      * </ul>
      * In this case, the process to create a new {@link WebDriver} is quite simple - parse {@link java.net.URL},
-     * and pass it to constructor in addition to capabilities.
+     * and pass it to constructor in addition to capabilities. Several comma separated urls are balanced,
+     * see {@link com.github.rev1an.core.driver.builder.HubBalancer}.
      * <p>
      * Absence of {@code hub url} property means that a <em>local</em> driver service is required.
      * In this case, after introduction of <em>Selenium 4.3.0</em>, a bit more sophisticated approach is required.
@@ -72,7 +149,7 @@ public final class WrappedDriverFactory {
     private DriverBuilder<WebDriver> resolveBuilder() {
         final var hubUrl = settings.hubUrl();
         return (hubUrl != null && !hubUrl.isBlank()) ?
-               new RemoteDriverBuilder(capabilities, hubUrl) :
+               new RemoteDriverBuilder(capabilities, hubUrl, settings.hubBalancing()) :
                new LocalDriverBuilder(capabilities, settings.driverClass());
     }
 
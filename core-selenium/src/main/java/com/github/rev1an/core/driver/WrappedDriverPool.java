@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.driver;
+
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.stream.IntStream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Pool of warm {@link WrappedDriver} sessions, built by {@link WrappedDriverFactory}.
+ * <p>
+ * Browser startup is the most expensive part of any UI test, so instead of {@link WrappedDriver#quit()}
+ * a session is returned to the pool with {@link #release(WrappedDriver)}, cleaned up and lent again:
+ * <ul>
+ *     <li>extra windows are closed,</li>
+ *     <li>cookies are deleted,</li>
+ *     <li>{@code localStorage} and {@code sessionStorage} are cleared,</li>
+ *     <li>browser navigates to {@code about:blank}.</li>
+ * </ul>
+ * Cookies and storages are cleared only for the origin opened at the moment of release.
+ * <p>
+ * Sessions that failed to reset, were reused {@link DriverPoolSettings#maxReuse()} times, or stayed idle
+ * longer than {@link DriverPoolSettings#idleTimeout()} are quit.
+ *
+ * @author rev1an (Sergey Alekseev)
+ * @see DriverPoolSettings
+ */
+public final class WrappedDriverPool implements AutoCloseable {
+
+    private static final Logger LOG = LogManager.getLogger(WrappedDriverPool.class);
+    private static final String CLEAR_STORAGE = """
+                                                try {
+                                                    window.localStorage.clear();
+                                                    window.sessionStorage.clear();
+                                                } catch (e) {
+                                                    // storage is not available for current origin
+                                                }""";
+
+    private final WrappedDriverFactory factory;
+    private final DriverPoolSettings settings;
+    private final BlockingDeque<PooledDriver> idle;
+    private final Map<WrappedDriver, PooledDriver> leased = new ConcurrentHashMap<>();
+
+    private volatile boolean closed = false;
+
+    /**
+     * Create a new pool and spawn {@link DriverPoolSettings#size()} sessions in advance.
+     *
+     * @param factory  fully initialized {@link WrappedDriverFactory}
+     * @param settings pool settings
+     */
+    public WrappedDriverPool(WrappedDriverFactory factory, DriverPoolSettings settings) {
+        this.factory = factory;
+        this.settings = settings;
+        this.idle = new LinkedBlockingDeque<>(Math.max(1, settings.size()));
+        warmUp();
+    }
+
+    /**
+     * Lend a session from pool, or build a new one if pool is empty.
+     *
+     * @return ready to use {@link WrappedDriver}
+     */
+    public WrappedDriver acquire() {
+        if (closed) {
+            throw new IllegalStateException("%s is already closed".formatted(WrappedDriverPool.class));
+        }
+        PooledDriver pooled;
+        while ((pooled = idle.pollFirst()) != null && isExpired(pooled)) {
+            discard(pooled);
+        }
+        if (pooled == null) {
+            pooled = new PooledDriver(factory.build());
+        }
+        pooled.uses++;
+        leased.put(pooled.driver, pooled);
+        return pooled.driver;
+    }
+
+    /**
+     * Reset a session and put it back to pool. Session is quit if it can't be reused.
+     *
+     * @param driver session previously lent by {@link #acquire()}
+     */
+    public void release(WrappedDriver driver) {
+        final var pooled = leased.remove(driver);
+        if (pooled == null) { // not lent by this pool
+            quietlyQuit(driver);
+            return;
+        }
+        if (closed || isExhausted(pooled) || !reset(driver)) {
+            discard(pooled);
+            return;
+        }
+        pooled.idleSince = System.nanoTime();
+        if (!idle.offerFirst(pooled) || (closed && idle.remove(pooled))) {
+            discard(pooled);
+        }
+        evictIdle();
+    }
+
+    /**
+     * Quit all sessions, idle and lent ones.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        PooledDriver pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            discard(pooled);
+        }
+        leased.values().forEach(this::discard);
+        leased.clear();
+    }
+
+    /**
+     * Sessions are spawned concurrently, failed ones are simply skipped - pool will build them on demand.
+     */
+    private void warmUp() {
+        IntStream.range(0, settings.size())
+                 .mapToObj(ignore -> factory.buildAsync())
+                 .toList()
+                 .forEach(future -> {
+                     try {
+                         final var pooled = new PooledDriver(future.join());
+                         if (!idle.offerLast(pooled)) {
+                             discard(pooled);
+                         }
+                     } catch (CompletionException e) {
+                         LOG.warn("Failed to spawn a session in advance", e.getCause());
+                     }
+                 });
+    }
+
+    private boolean reset(WrappedDriver driver) {
+        try {
+            final var handles = driver.getWindowHandles();
+            final var first = handles.iterator().next();
+            if (handles.size() > 1) {
+                for (final var handle : handles) {
+                    if (!handle.equals(first)) {
+                        driver.switchTo().window(handle).close();
+                    }
+                }
+            }
+            driver.switchTo().window(first);
+            driver.manage().deleteAllCookies();
+            driver.executeScript(CLEAR_STORAGE);
+            driver.get("about:blank");
+            return true;
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to reset a session, it will be quit", e);
+            return false;
+        }
+    }
+
+    private void evictIdle() {
+        if (settings.idleTimeout().isZero()) {
+            return;
+        }
+        for (final var pooled : idle) {
+            if (isExpired(pooled) && idle.remove(pooled)) {
+                discard(pooled);
+            }
+        }
+    }
+
+    private boolean isExpired(PooledDriver pooled) {
+        return !settings.idleTimeout().isZero() &&
+               System.nanoTime() - pooled.idleSince > settings.idleTimeout().toNanos();
+    }
+
+    private boolean isExhausted(PooledDriver pooled) {
+        return settings.maxReuse() > 0 && pooled.uses >= settings.maxReuse();
+    }
+
+    private void discard(PooledDriver pooled) {
+        quietlyQuit(pooled.driver);
+    }
+
+    private void quietlyQuit(WrappedDriver driver) {
+        try {
+            driver.quit();
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to quit a session", e);
+        }
+    }
+
+    /**
+     * Session with its usage statistics.
+     */
+    private static final class PooledDriver {
+
+        private final WrappedDriver driver;
+        private int uses = 0;
+        private long idleSince = System.nanoTime();
+
+        private PooledDriver(WrappedDriver driver) {
+            this.driver = driver;
+        }
+
+    }
+
+}
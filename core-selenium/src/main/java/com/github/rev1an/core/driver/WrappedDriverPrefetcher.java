@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.driver;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Keeps a number of {@link WrappedDriver} sessions being created in background with
+ * {@link WrappedDriverFactory#buildAsync()}.
+ * <p>
+ * Each {@link #take()} hands out a prefetched session and immediately starts creating a replacement,
+ * so session creation overlaps with test execution instead of blocking it.
+ *
+ * @author rev1an (Sergey Alekseev)
+ * @see WrappedDriverFactory#buildAsync()
+ */
+public final class WrappedDriverPrefetcher implements AutoCloseable {
+
+    private static final Logger LOG = LogManager.getLogger(WrappedDriverPrefetcher.class);
+
+    private final WrappedDriverFactory factory;
+    private final Queue<CompletableFuture<WrappedDriver>> prefetched = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean closed = false;
+
+    /**
+     * Create a new prefetcher and start creation of {@code depth} sessions.
+     *
+     * @param factory fully initialized {@link WrappedDriverFactory}
+     * @param depth   number of sessions being created in advance
+     */
+    public WrappedDriverPrefetcher(WrappedDriverFactory factory, int depth) {
+        this.factory = factory;
+        for (int i = 0; i < depth; i++) {
+            prefetched.add(factory.buildAsync());
+        }
+    }
+
+    /**
+     * Take a prefetched session, waiting for its creation if required.
+     * <p>
+     * If prefetched session failed to start, a new one is created synchronously.
+     *
+     * @return ready to use {@link WrappedDriver}
+     */
+    public WrappedDriver take() {
+        if (closed) {
+            throw new IllegalStateException("%s is already closed".formatted(WrappedDriverPrefetcher.class));
+        }
+        final var next = prefetched.poll();
+        if (next == null) { // depth is 0, or concurrent consumers outrun prefetching
+            return factory.build();
+        }
+        prefetched.add(factory.buildAsync());
+        if (closed) { // closed concurrently, don't leave replacement behind
+            close();
+        }
+        try {
+            return next.join();
+        } catch (CompletionException e) {
+            LOG.warn("Prefetched session failed to start, creating a new one", e.getCause());
+            return factory.build();
+        }
+    }
+
+    /**
+     * Quit all prefetched sessions, including ones that are still being created.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        CompletableFuture<WrappedDriver> next;
+        while ((next = prefetched.poll()) != null) {
+            next.thenAccept(WrappedDriverPrefetcher::quietlyQuit);
+        }
+    }
+
+    private static void quietlyQuit(WrappedDriver driver) {
+        try {
+            driver.quit();
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to quit a prefetched session", e);
+        }
+    }
+
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.driver.builder;
+
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Picks one of several Selenium Hub / Selenoid endpoints for each new session.
+ * <p>
+ * Endpoint that failed to create a session {@value #FAILURE_THRESHOLD} times in a row is ejected for a cooldown,
+ * which starts at {@code 30s} and doubles with each failed probe, up to {@code 5m}. After cooldown, the endpoint
+ * is probed with {@code GET /status}, and returns to rotation if it answers with {@code 200}.
+ * If all endpoints are ejected, the one with the earliest cooldown end is used anyway.
+ *
+ * @author rev1an (Sergey Alekseev)
+ * @see RemoteDriverBuilder
+ */
+public final class HubBalancer {
+
+    private static final Logger LOG = LogManager.getLogger(HubBalancer.class);
+    private static final int FAILURE_THRESHOLD = 2;
+    private static final Duration INITIAL_COOLDOWN = Duration.ofSeconds(30);
+    private static final Duration MAX_COOLDOWN = Duration.ofMinutes(5);
+    private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(2);
+    private static final double LATENCY_WEIGHT = 0.3;
+
+    private final List<Endpoint> endpoints;
+    private final Strategy strategy;
+    private final AtomicInteger next = new AtomicInteger();
+    private final HttpClient http = HttpClient.newBuilder()
+                                              .connectTimeout(PROBE_TIMEOUT)
+                                              .build();
+
+    /**
+     * @param urls     hub urls, at least one
+     * @param strategy how to pick an endpoint among healthy ones
+     */
+    public HubBalancer(List<URL> urls, Strategy strategy) {
+        if (urls.isEmpty()) {
+            throw new IllegalArgumentException("At least one hub url is required");
+        }
+        this.endpoints = urls.stream().map(Endpoint::new).toList();
+        this.strategy = strategy;
+    }
+
+    /**
+     * @return number of endpoints
+     */
+    public int size() {
+        return endpoints.size();
+    }
+
+    /**
+     * Pick an endpoint for a new session, and count it as outstanding.
+     *
+     * @param tried endpoints already tried for this session, skipped, must not contain all of them
+     *
+     * @return healthy endpoint, or the one that recovers soonest if none are healthy
+     */
+    Endpoint acquire(Set<Endpoint> tried) {
+        final var now = System.nanoTime();
+        final var candidates = endpoints.stream()
+                                        .filter(endpoint -> !tried.contains(endpoint))
+                                        .toList();
+        if (candidates.isEmpty()) {
+            throw new IllegalStateException("All %d hub(s) are tried already".formatted(endpoints.size()));
+        }
+        candidates.stream()
+                  .filter(endpoint -> endpoint.isEjected() && now - endpoint.ejectedUntil >= 0)
+                  .forEach(this::probe);
+        final var healthy = candidates.stream()
+                                      .filter(endpoint -> !endpoint.isEjected())
+                                      .toList();
+        final var endpoint = healthy.isEmpty() ?
+                             candidates.stream()
+                                       .min(Comparator.comparingLong(e -> e.ejectedUntil - now))
+                                       .orElseThrow() :
+                             strategy.select(healthy, Math.floorMod(next.getAndIncrement(), healthy.size()));
+        endpoint.outstanding.incrementAndGet();
+        return endpoint;
+    }
+
+    private void probe(Endpoint endpoint) {
+        if (!endpoint.probing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            final var uri = URI.create(endpoint.url.toString().replaceAll("/+$", "") + "/status");
+            final var request = HttpRequest.newBuilder(uri)
+                                           .timeout(PROBE_TIMEOUT)
+                                           .GET()
+                                           .build();
+            final var status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            if (status == 200) {
+                endpoint.reinstate();
+                return;
+            }
+            LOG.warn("Hub {} is still unhealthy: /status returned {}", endpoint.url, status);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            LOG.warn("Hub {} is still unhealthy: {}", endpoint.url, e.toString());
+        } finally {
+            endpoint.probing.set(false);
+        }
+        endpoint.eject();
+    }
+
+    /**
+     * How an endpoint is picked among healthy ones.
+     */
+    public enum Strategy {
+
+        /**
+         * One by one.
+         */
+        ROUND_ROBIN {
+            @Override
+            Endpoint select(List<Endpoint> healthy, int offset) {
+                return healthy.get(offset);
+            }
+        },
+        /**
+         * The one with the least sessions being created or alive.
+         */
+        LEAST_OUTSTANDING {
+            @Override
+            Endpoint select(List<Endpoint> healthy, int offset) {
+                return min(healthy, offset, endpoint -> endpoint.outstanding.get());
+            }
+        },
+        /**
+         * The one with the lowest recent session creation time, endpoints without measurements go first.
+         */
+        LOWEST_LATENCY {
+            @Override
+            Endpoint select(List<Endpoint> healthy, int offset) {
+                return min(healthy, offset, endpoint -> endpoint.latencyNanos);
+            }
+        };
+
+        abstract Endpoint select(List<Endpoint> healthy, int offset);
+
+        /**
+         * Search starts from a rotating offset, so ties are spread evenly.
+         */
+        private static Endpoint min(List<Endpoint> healthy, int offset, ToDoubleFunction<Endpoint> metric) {
+            var best = healthy.get(offset);
+            for (int i = 1; i < healthy.size(); i++) {
+                final var candidate = healthy.get((offset + i) % healthy.size());
+                if (metric.applyAsDouble(candidate) < metric.applyAsDouble(best)) {
+                    best = candidate;
+                }
+            }
+            return best;
+        }
+
+    }
+
+    /**
+     * One hub with its health and load statistics.
+     */
+    static final class Endpoint {
+
+        private final URL url;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicBoolean probing = new AtomicBoolean();
+
+        private volatile double latencyNanos = 0;
+        private volatile boolean ejected = false;
+        private volatile long ejectedUntil = 0;
+        private volatile long cooldownNanos = INITIAL_COOLDOWN.toNanos();
+
+        private Endpoint(URL url) {
+            this.url = url;
+        }
+
+        URL url() {
+            return url;
+        }
+
+        /**
+         * Session is created, update recent latency.
+         */
+        synchronized void succeeded(long nanos) {
+            failures.set(0);
+            latencyNanos = latencyNanos == 0 ? nanos : LATENCY_WEIGHT * nanos + (1 - LATENCY_WEIGHT) * latencyNanos;
+        }
+
+        /**
+         * Session is not created, eject endpoint if it fails too often.
+         */
+        void failed() {
+            outstanding.decrementAndGet();
+            if (failures.incrementAndGet() >= FAILURE_THRESHOLD && !ejected) {
+                eject();
+            }
+        }
+
+        /**
+         * Session is quit.
+         */
+        void released() {
+            outstanding.decrementAndGet();
+        }
+
+        private boolean isEjected() {
+            return ejected;
+        }
+
+        private synchronized void eject() {
+            if (ejected) { // failed probe, back off
+                cooldownNanos = Math.min(cooldownNanos * 2, MAX_COOLDOWN.toNanos());
+            }
+            ejected = true;
+            ejectedUntil = System.nanoTime() + cooldownNanos;
+            LOG.warn("Hub {} is ejected for {}", url, Duration.ofNanos(cooldownNanos));
+        }
+
+        private synchronized void reinstate() {
+            failures.set(0);
+            ejected = false;
+            cooldownNanos = INITIAL_COOLDOWN.toNanos();
+            LOG.info("Hub {} is back in rotation", url);
+        }
+
+    }
+
+}
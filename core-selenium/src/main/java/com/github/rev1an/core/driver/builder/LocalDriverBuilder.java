@@ -6,8 +6,7 @@
 
 package com.github.rev1an.core.driver.builder;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.util.function.Function;
 import com.github.rev1an.core.driver.DriverBuilder;
 import com.github.rev1an.core.util.ReflectionUtils;
 import org.openqa.selenium.Capabilities;
@@ -21,7 +20,7 @@ import org.openqa.selenium.WebDriver;
 public class LocalDriverBuilder implements DriverBuilder<WebDriver> {
 
     private final Capabilities capabilities;
-    private final Constructor<? extends WebDriver> constructor;
+    private final Function<Capabilities, ? extends WebDriver> constructor;
 
     /**
      * @param capabilities desired browser settings
@@ -34,19 +33,16 @@ public class LocalDriverBuilder implements DriverBuilder<WebDriver> {
     }
 
     /**
-     * @return new instance of {@link WebDriver} implementation
+     * @return new instance of {@link WebDriver} implementation, exceptions of its constructor are not wrapped
      */
     @Override
     public WebDriver build() {
-        try {
-            return constructor.newInstance(capabilities);
-        } catch (IllegalAccessException | InstantiationException | InvocationTargetException e) {
-            throw new RuntimeException("Cannot create instance of WebDriver: %s".formatted(constructor), e);
-        }
+        return constructor.apply(capabilities);
     }
 
     /**
      * Cache constructor, no reason to do class and constructor lookup each time new driver is required.
+     * Constructor is invoked through a generated lambda, see {@link ReflectionUtils#constructor(Class, Class)}.
      *
      * @param capabilities used to what constructor is required
      * @param driverClass  full class reference of target {@link WebDriver} implementation
@@ -56,13 +52,10 @@ public class LocalDriverBuilder implements DriverBuilder<WebDriver> {
      * @throws RuntimeException if no constructor found
      */
     @SuppressWarnings("unchecked")
-    private Constructor<? extends WebDriver> resolveConstructor(Capabilities capabilities, String driverClass) {
+    private Function<Capabilities, ? extends WebDriver> resolveConstructor(Capabilities capabilities,
+                                                                           String driverClass) {
         final var clazz = (Class<? extends WebDriver>) ReflectionUtils.findClass(driverClass);
-        try {
-            return clazz.getConstructor(capabilities.getClass());
-        } catch (NoSuchMethodException e) {
-            throw new RuntimeException("Unable to find required constructor in class: %s".formatted(driverClass), e);
-        }
+        return ReflectionUtils.constructor(clazz, (Class<Capabilities>) capabilities.getClass());
     }
 
 }
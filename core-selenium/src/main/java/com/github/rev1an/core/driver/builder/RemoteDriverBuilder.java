@@ -8,29 +8,74 @@ package com.github.rev1an.core.driver.builder;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import com.github.rev1an.core.driver.DriverBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.remote.RemoteWebDriver;
 
 /**
  * Builds a new {@link RemoteWebDriver} instance.
+ * <p>
+ * Several comma separated hub urls may be given, then each session goes to an endpoint picked by
+ * {@link HubBalancer}. If session creation fails, the next endpoint is tried, each endpoint at most once.
  *
  * @author rev1an (Sergey Alekseev)
  */
 public class RemoteDriverBuilder implements DriverBuilder<WebDriver> {
 
+    private static final Logger LOG = LogManager.getLogger(RemoteDriverBuilder.class);
+
     private final Capabilities capabilities;
-    private final URL hubUrl;
+    private final HubBalancer balancer;
 
     public RemoteDriverBuilder(Capabilities capabilities, String hubUrl) {
+        this(capabilities, hubUrl, HubBalancer.Strategy.ROUND_ROBIN);
+    }
+
+    /**
+     * @param capabilities session capabilities
+     * @param hubUrls      one or several comma separated hub urls
+     * @param strategy     how to pick a hub for each session
+     */
+    public RemoteDriverBuilder(Capabilities capabilities, String hubUrls, HubBalancer.Strategy strategy) {
         this.capabilities = capabilities;
-        this.hubUrl = parseUrl(hubUrl);
+        this.balancer = new HubBalancer(parseUrls(hubUrls), strategy);
     }
 
     @Override
     public RemoteWebDriver build() {
-        return new RemoteWebDriver(hubUrl, capabilities, false);
+        final var tried = new HashSet<HubBalancer.Endpoint>();
+        WebDriverException failure = null;
+        while (tried.size() < balancer.size()) {
+            final var endpoint = balancer.acquire(tried);
+            tried.add(endpoint);
+            final var start = System.nanoTime();
+            try {
+                final var driver = new BalancedRemoteWebDriver(endpoint, capabilities);
+                endpoint.succeeded(System.nanoTime() - start);
+                return driver;
+            } catch (WebDriverException e) {
+                endpoint.failed();
+                LOG.warn("Session is not created on {}: {}", endpoint.url(), e.getRawMessage());
+                failure = e;
+            }
+        }
+        throw failure;
+    }
+
+    private List<URL> parseUrls(String urls) {
+        return Arrays.stream(urls.split(","))
+                     .map(String::trim)
+                     .filter(url -> !url.isEmpty())
+                     .map(this::parseUrl)
+                     .toList();
     }
 
     private URL parseUrl(String url) {
@@ -41,4 +86,30 @@ public class RemoteDriverBuilder implements DriverBuilder<WebDriver> {
         }
     }
 
+    /**
+     * Lets {@link HubBalancer} know when the session is gone.
+     */
+    private static final class BalancedRemoteWebDriver extends RemoteWebDriver {
+
+        private final HubBalancer.Endpoint endpoint;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private BalancedRemoteWebDriver(HubBalancer.Endpoint endpoint, Capabilities capabilities) {
+            super(endpoint.url(), capabilities, false);
+            this.endpoint = endpoint;
+        }
+
+        @Override
+        public void quit() {
+            try {
+                super.quit();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    endpoint.released();
+                }
+            }
+        }
+
+    }
+
 }
@@ -6,29 +6,46 @@
 
 package com.github.rev1an.core.driver.capabilities;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.module.SimpleDeserializers;
 import com.github.rev1an.core.driver.CapabilityProvider;
 import com.github.rev1an.core.driver.capabilities.deserializer.ChromeOptionsDeserializer;
+import com.github.rev1an.core.driver.capabilities.deserializer.EdgeOptionsDeserializer;
 import com.github.rev1an.core.driver.capabilities.deserializer.FirefoxOptionsDeserializer;
+import com.github.rev1an.core.driver.capabilities.deserializer.SafariOptionsDeserializer;
 import com.github.rev1an.core.json.JacksonHolder;
 import com.github.rev1an.core.json.JacksonMapper;
 import com.github.rev1an.core.util.ReflectionUtils;
 import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.ImmutableCapabilities;
 import org.openqa.selenium.MutableCapabilities;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.remote.AbstractDriverOptions;
+import org.openqa.selenium.safari.SafariOptions;
 
 /**
  * Parse {@code .json} file into instance of {@link AbstractDriverOptions} ({@code ***Options}) class.
  * <p>
  * The first key in {@code .json} file must be a <b>full class reference</b> of desired capability class.
  * <p>
+ * File can be a resource, or an absolute path in file system. Parsed capabilities are cached per process,
+ * see {@link #get()}.
+ * <p>
  * <h3>Examples</h3>
  * {@link org.openqa.selenium.firefox.FirefoxOptions}:
  * <pre>
@@ -67,37 +84,158 @@ import org.openqa.selenium.remote.AbstractDriverOptions;
  */
 public class JsonFileCapabilityProvider implements CapabilityProvider<AbstractDriverOptions<?>> {
 
-    private final String filePath;
-    private final JacksonMapper mapper;
+    /**
+     * Parsed templates shared by all providers, keyed by resource or file location.
+     */
+    private static final Map<String, Template> TEMPLATES = new ConcurrentHashMap<>();
+    private static final JacksonMapper MAPPER;
+    private static final Capabilities NO_CAPABILITIES = new ImmutableCapabilities();
+
+    static {
+        MAPPER = JacksonHolder.DEFAULT.copy();
+        MAPPER.registerModule(new JsonCapabilitiesModule());
+    }
+
+    private final String location;
+    private final Path file;
+    private final URL resource;
 
     /**
-     * @param filePath {@code .json} file in <b>resources</b> folder.
+     * @param filePath {@code .json} file in <b>resources</b> folder, or an absolute path in file system.
      */
     public JsonFileCapabilityProvider(String filePath) {
-        this.filePath = filePath; // TODO: Support 'filePath' outside of resources folder. Use 'Path'?
-        this.mapper = JacksonHolder.DEFAULT.copy();
-        this.mapper.registerModule(new JsonCapabilitiesModule());
+        if (Path.of(filePath).isAbsolute()) {
+            this.location = filePath;
+            this.file = Path.of(filePath);
+            this.resource = null;
+        } else {
+            this.location = "classpath:" + filePath;
+            this.resource = ClassLoader.getSystemResource(filePath);
+            if (this.resource == null) {
+                throw new UncheckedIOException(new FileNotFoundException(
+                        "Capabilities file is not found in resources: %s".formatted(filePath)));
+            }
+            this.file = toPath(this.resource);
+        }
+    }
+
+    /**
+     * @param file {@code .json} file in file system.
+     */
+    public JsonFileCapabilityProvider(Path file) {
+        this.file = file.toAbsolutePath().normalize();
+        this.location = this.file.toString();
+        this.resource = null;
     }
 
     /**
+     * File is parsed once per process, and re-parsed only if its modification time or size changes.
+     * Resources packed into {@code .jar} files are parsed once.
+     * <p>
+     * Each call returns a copy of parsed template made with {@link MutableCapabilities#merge(Capabilities)},
+     * so callers may modify it freely. Note, nested values (i.e. {@code goog:chromeOptions} maps) are copied
+     * shallowly by Selenium.
+     *
      * @return new instance of {@link Capabilities} class
      *
      * @since <em>Selenium 4.3.0</em>, additional magic should be applied.
      * Previously, it was enough to deserialize {@code .json} file into simple {@link Map}  instance,
      * and pass it to {@link MutableCapabilities#MutableCapabilities(Map)} constructor.
      */
-    @SuppressWarnings("unchecked")
     @Override
     public AbstractDriverOptions<?> get() {
+        final var attributes = attributes();
+        final var template = TEMPLATES.compute(location, (key, cached) ->
+                cached != null && cached.isFresh(attributes) ? cached : parse(attributes));
+        return template.copy();
+    }
+
+    /**
+     * Forget all parsed templates, i.e. when files are replaced without changing modification time and size.
+     */
+    public static void clearCache() {
+        TEMPLATES.clear();
+    }
+
+    /**
+     * File is read as a stream: the first key is a class name, its value is deserialized right from the parser,
+     * no intermediate tree is built.
+     */
+    @SuppressWarnings("unchecked")
+    private Template parse(BasicFileAttributes attributes) {
+        try (var is = file != null ? Files.newInputStream(file) : resource.openStream();
+             var parser = MAPPER.createParser(is)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT || parser.nextToken() != JsonToken.FIELD_NAME) {
+                throw new IOException("Capabilities class name is expected as the first key");
+            }
+            var capabilityClass = (Class<AbstractDriverOptions<?>>) ReflectionUtils.findClass(parser.currentName());
+            parser.nextToken();
+            var options = MAPPER.readValue(parser, capabilityClass);
+            return new Template(capabilityClass, options, attributes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read capabilities file: %s".formatted(location), e);
+        }
+    }
+
+    /**
+     * @return file attributes, or {@code null} for resources packed into {@code .jar} files
+     */
+    private BasicFileAttributes attributes() {
+        if (file == null) {
+            return null;
+        }
         try {
-            var is = ClassLoader.getSystemResourceAsStream(filePath);
-            var raw = mapper.readTree(is);
-            var firstNode = raw.fields().next();
-            var capabilityClass = (Class<AbstractDriverOptions<?>>) ReflectionUtils.findClass(firstNode.getKey());
-            return mapper.convertValue(firstNode.getValue(), capabilityClass);
+            return Files.readAttributes(file, BasicFileAttributes.class);
         } catch (IOException e) {
-            throw new UncheckedIOException("Failed to read capabilities file: %s".formatted(filePath), e);
+            throw new UncheckedIOException("Failed to read capabilities file: %s".formatted(location), e);
+        }
+    }
+
+    private static Path toPath(URL resource) {
+        try {
+            return "file".equals(resource.getProtocol()) ? Path.of(resource.toURI()) : null;
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parsed capabilities file.
+     *
+     * @param capabilityClass  class from the first key of file
+     * @param options          parsed capabilities, never returned directly
+     * @param lastModifiedTime file modification time, {@code null} for resources packed into {@code .jar} files
+     * @param size             file size
+     */
+    private record Template(Class<AbstractDriverOptions<?>> capabilityClass,
+                            AbstractDriverOptions<?> options,
+                            FileTime lastModifiedTime,
+                            long size) {
+
+        private Template(Class<AbstractDriverOptions<?>> capabilityClass, AbstractDriverOptions<?> options,
+                         BasicFileAttributes attributes) {
+            this(capabilityClass, options,
+                 attributes == null ? null : attributes.lastModifiedTime(),
+                 attributes == null ? 0 : attributes.size());
         }
+
+        private boolean isFresh(BasicFileAttributes attributes) {
+            return attributes == null ||
+                   attributes.lastModifiedTime().equals(lastModifiedTime) && attributes.size() == size;
+        }
+
+        /**
+         * Every {@code ***Options} class overrides {@link MutableCapabilities#merge(Capabilities)} and returns
+         * a new instance of its own type, which is much cheaper than parsing. Just in case, fallback to
+         * converting {@link AbstractDriverOptions#asMap()}, its vendor containers are understood by deserializers.
+         */
+        private AbstractDriverOptions<?> copy() {
+            final var copy = options.merge(NO_CAPABILITIES);
+            return capabilityClass.isInstance(copy) ?
+                   capabilityClass.cast(copy) :
+                   MAPPER.convertValue(options.asMap(), capabilityClass);
+        }
+
     }
 
     /**
@@ -126,6 +264,8 @@ public class JsonFileCapabilityProvider implements CapabilityProvider<AbstractDr
             // more deserializers must be registered here
             deserializers.addDeserializer(FirefoxOptions.class, new FirefoxOptionsDeserializer());
             deserializers.addDeserializer(ChromeOptions.class, new ChromeOptionsDeserializer());
+            deserializers.addDeserializer(EdgeOptions.class, new EdgeOptionsDeserializer());
+            deserializers.addDeserializer(SafariOptions.class, new SafariOptionsDeserializer());
             context.addDeserializers(deserializers);
         }
 
@@ -7,26 +7,40 @@
 package com.github.rev1an.core.driver.capabilities.deserializer;
 
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.github.rev1an.core.json.TypeReferences;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.remote.AbstractDriverOptions;
+import org.openqa.selenium.remote.CapabilityType;
 
 /**
  * Abstraction that defines a process of creating {@link AbstractDriverOptions} instances.
  * <p>
+ * JSON is read as a stream of tokens, no intermediate {@link Map} is built. Each key is dispatched through
+ * a table of {@link CapabilitySetter}s, precomputed once per {@code ***Options} class, and each capability is
+ * set exactly once. Keys of <em>vendor containers</em> (i.e. {@code goog:chromeOptions}) are dispatched
+ * through the same table instead of setting the container itself.
+ * <p>
  * Descendants of this class must provide:
  * <ul>
  *     <li>
- *         Generic type argument {@code T} of desired {@code ***Options} class.
+ *         Factory of empty {@code ***Options} instances.
+ *     </li>
+ *     <li>
+ *         Table of setters for keys that require own setter methods, all other keys are set with
+ *         {@link AbstractDriverOptions#setCapability(String, Object)}.
  *     </li>
  *     <li>
- *         Implement {@link #processCapabilities(AbstractDriverOptions, Map)} method, initialize empty capabilities
- *         from raw {@link Map}.
+ *         Names of vendor containers, if any.
  *     </li>
  * </ul>
  *
@@ -34,19 +48,34 @@ import org.openqa.selenium.remote.AbstractDriverOptions;
  *
  * @author rev1an (Sergey Alekseev)
  */
-@SuppressWarnings("unchecked")
 abstract class AbstractDriverOptionsDeserializer<T extends AbstractDriverOptions<?>> extends JsonDeserializer<T> {
 
+    private final Supplier<T> factory;
+    private final Map<String, CapabilitySetter<T>> setters;
+    private final Set<String> containers;
+
+    /**
+     * @param factory    creates empty instance of {@code T}
+     * @param setters    setters for keys specific to {@code T}, {@code pageLoadStrategy} is supported by default
+     * @param containers vendor container keys, whose nested keys are dispatched through {@code setters}
+     */
+    protected AbstractDriverOptionsDeserializer(Supplier<T> factory,
+                                                Map<String, CapabilitySetter<T>> setters,
+                                                Set<String> containers) {
+        this.factory = factory;
+        this.setters = new HashMap<>(setters);
+        this.setters.putIfAbsent(CapabilityType.PAGE_LOAD_STRATEGY, (capabilities, parser) ->
+                capabilities.setPageLoadStrategy(PageLoadStrategy.fromString(parser.getValueAsString())));
+        this.containers = Set.copyOf(containers);
+    }
+
     /**
      * <ul>
      *     <li>
      *         Create empty instance of generic argument {@code T}.
      *     </li>
      *     <li>
-     *         Read {@code json} file to raw {@link Map}.
-     *     </li>
-     *     <li>
-     *         Initialize capabilities in {@link #createEmptyCapabilities()}
+     *         Read {@code json} object key by key, descending into vendor containers.
      *     </li>
      *     <li>
      *         Close parser, better safe than sorry.
@@ -61,78 +90,102 @@ abstract class AbstractDriverOptionsDeserializer<T extends AbstractDriverOptions
      *
      * @return new instance of {@link AbstractDriverOptions} descendant.
      *
-     * @throws IOException      is something goes wrong while reading raw {@link Map}
-     * @throws RuntimeException is something goes wrong {@link #createEmptyCapabilities()}
+     * @throws IOException is something goes wrong while reading JSON content
      */
     @Override
     public final T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
         try (final var parser = p) { // close when done
-            final var capabilities = createEmptyCapabilities();
-            final var raw = (Map<String, Object>) parser.readValueAs(TypeReferences.MAP_STRING_OBJECT);
-            processCapabilities(capabilities, raw);
+            final var capabilities = factory.get();
+            if (parser.currentToken() == JsonToken.START_OBJECT) {
+                parser.nextToken();
+            }
+            for (; parser.currentToken() == JsonToken.FIELD_NAME; parser.nextToken()) {
+                final var key = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_OBJECT && containers.contains(key)) {
+                    for (parser.nextToken(); parser.currentToken() == JsonToken.FIELD_NAME; parser.nextToken()) {
+                        final var nestedKey = parser.currentName();
+                        parser.nextToken();
+                        setCapability(capabilities, nestedKey, parser, true);
+                    }
+                } else {
+                    setCapability(capabilities, key, parser, false);
+                }
+            }
             return capabilities;
         }
     }
 
     /**
-     * Each implementation of {@link AbstractDriverOptions} have own unique capability setters.
-     * <p>
-     * Thus, implementations of {@link AbstractDriverOptionsDeserializer} must provide this logic.
+     * Called for keys inside vendor containers that have no setter. Sets a top-level capability by default.
      *
      * @param capabilities instance of {@code T} capabilities
      * @param key          capability key
      * @param value        capability value
      */
-    protected abstract void setCapability(T capabilities, String key, Object value);
+    protected void setContainerCapability(T capabilities, String key, Object value) {
+        capabilities.setCapability(key, value);
+    }
+
+    private void setCapability(T capabilities, String key, JsonParser parser, boolean nested) throws IOException {
+        final var setter = setters.get(key);
+        if (setter != null) {
+            setter.set(capabilities, parser);
+        } else if (nested) {
+            setContainerCapability(capabilities, key, value(parser));
+        } else {
+            capabilities.setCapability(key, value(parser));
+        }
+    }
 
     /**
-     * Traverse {@param raw} recursively and set capabilities into provided {@code T} capabilities instance.
+     * Read array of strings, element by element.
+     *
+     * @param parser parser positioned at {@link JsonToken#START_ARRAY}
+     *
+     * @return list of strings
      *
-     * @param capabilities empty instance of {@code T} capabilities
-     * @param raw          capabilities from {@code json} file
+     * @throws IOException if current value is not an array of strings
      */
-    private void processCapabilities(T capabilities, Map<String, Object> raw) {
-        for (final var entry : raw.entrySet()) {
-            final var value = entry.getValue();
-            if (value instanceof Map) {
-                processCapabilities(capabilities, (Map<String, Object>) value);
-            }
-            setCapability(capabilities, entry.getKey(), value);
+    static List<String> strings(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new IOException("Array of strings is expected at %s".formatted(parser.currentLocation()));
+        }
+        final var strings = new ArrayList<String>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            strings.add(parser.getValueAsString());
         }
+        return strings;
     }
 
     /**
-     * Create an empty instance of any {@link AbstractDriverOptions}, based on
-     * generic type parameter provided to descendant of this class.
+     * @param parser parser positioned at {@link JsonToken#START_OBJECT}
      *
-     * @return new instance of {@code T} provided as generic argument.
+     * @return object as a {@link Map}
+     */
+    static Map<String, Object> map(JsonParser parser) throws IOException {
+        return parser.readValueAs(TypeReferences.MAP_STRING_OBJECT);
+    }
+
+    /**
+     * @param parser parser positioned at any value
      *
-     * @throws RuntimeException in a bunch of {@link ReflectiveOperationException} cases
+     * @return value as plain Java object
      */
-    private T createEmptyCapabilities() {
-        final var clazz = getGenericType();
-        try {
-            return clazz.getConstructor().newInstance();
-        } catch (InstantiationException e) {
-            throw new RuntimeException("Cannot create instance ot type: %s".formatted(clazz), e);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException("Cannot access default empty constructor in type: %s".formatted(clazz), e);
-        } catch (InvocationTargetException e) {
-            throw new RuntimeException("Exception calling default empty constructor in type: %s".formatted(clazz), e);
-        } catch (NoSuchMethodException e) {
-            throw new RuntimeException("Unable to find default empty constructor in type: %s".formatted(clazz), e);
-        }
+    static Object value(JsonParser parser) throws IOException {
+        return parser.readValueAs(Object.class);
     }
 
     /**
-     * A trick from old times: <a href="http://gafter.blogspot.com/2006/12/super-type-tokens.html">Super Type Tokens</a>
-     * <p>
-     * Still works in 2022.
+     * Sets a capability from current value of {@link JsonParser}. Implementations must consume
+     * the value entirely, i.e. up to {@link JsonToken#END_ARRAY} for arrays.
      *
-     * @return type of generic parameter {@code T}.
+     * @param <T> any descendant of {@link AbstractDriverOptions} class.
      */
-    private Class<T> getGenericType() {
-        return (Class<T>) ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0];
+    @FunctionalInterface
+    protected interface CapabilitySetter<T> {
+
+        void set(T capabilities, JsonParser parser) throws IOException;
+
     }
 
 }
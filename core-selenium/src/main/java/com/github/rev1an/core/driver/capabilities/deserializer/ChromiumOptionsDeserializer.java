@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.driver.capabilities.deserializer;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.openqa.selenium.chromium.ChromiumOptions;
+
+/**
+ * Support initialization and property setting for {@link ChromiumOptions} descendants.
+ * <p>
+ * Keys of vendor container without own setter, i.e. {@code prefs} or {@code mobileEmulation},
+ * are set with {@link ChromiumOptions#setExperimentalOption(String, Object)}.
+ *
+ * @param <T> {@link ChromiumOptions} descendant
+ *
+ * @author rev1an (Sergey Alekseev)
+ * @see AbstractDriverOptionsDeserializer
+ */
+abstract class ChromiumOptionsDeserializer<T extends ChromiumOptions<T>> extends AbstractDriverOptionsDeserializer<T> {
+
+    /**
+     * @param factory   creates empty instance of {@code T}
+     * @param container vendor container key, i.e. {@code goog:chromeOptions}
+     */
+    protected ChromiumOptionsDeserializer(Supplier<T> factory, String container) {
+        super(factory, Map.of(
+                "args", (capabilities, parser) -> capabilities.addArguments(strings(parser)),
+                "binary", (capabilities, parser) -> capabilities.setBinary(parser.getValueAsString()),
+                "extensions", (capabilities, parser) -> capabilities.addEncodedExtensions(strings(parser)),
+                "experimentalOptions", (capabilities, parser) -> map(parser).forEach(capabilities::setExperimentalOption)
+        ), Set.of(container));
+    }
+
+    @Override
+    protected void setContainerCapability(T capabilities, String key, Object value) {
+        capabilities.setExperimentalOption(key, value);
+    }
+
+}
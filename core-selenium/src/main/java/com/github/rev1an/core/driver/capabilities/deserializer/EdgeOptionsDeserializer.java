@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.driver.capabilities.deserializer;
+
+import org.openqa.selenium.edge.EdgeOptions;
+
+/**
+ * Support initialization and property setting for {@link EdgeOptions}.
+ *
+ * @author rev1an (Sergey Alekseev)
+ * @see ChromiumOptionsDeserializer
+ */
+public class EdgeOptionsDeserializer extends ChromiumOptionsDeserializer<EdgeOptions> {
+
+    public EdgeOptionsDeserializer() {
+        super(EdgeOptions::new, EdgeOptions.CAPABILITY);
+    }
+
+}
@@ -6,32 +6,103 @@
 
 package com.github.rev1an.core.driver.capabilities.deserializer;
 
-import java.util.List;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
-import org.openqa.selenium.PageLoadStrategy;
+import java.util.Set;
+import java.util.TreeMap;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.firefox.FirefoxDriverLogLevel;
 import org.openqa.selenium.firefox.FirefoxOptions;
-import org.openqa.selenium.remote.CapabilityType;
+import org.openqa.selenium.firefox.FirefoxProfile;
 
 /**
  * Support initialization and property setting for {@link FirefoxOptions}.
+ * <p>
+ * Keys of {@code moz:firefoxOptions} without a setter (i.e. {@code env}) stay inside the container.
  *
  * @author rev1an (Sergey Alekseev)
  * @see AbstractDriverOptionsDeserializer
  */
-@SuppressWarnings("unchecked")
 public class FirefoxOptionsDeserializer extends AbstractDriverOptionsDeserializer<FirefoxOptions> {
 
+    public FirefoxOptionsDeserializer() {
+        super(ContainerFirefoxOptions::new, Map.of(
+                "args", (capabilities, parser) -> capabilities.addArguments(strings(parser)),
+                "binary", (capabilities, parser) -> capabilities.setBinary(parser.getValueAsString()),
+                "log", (capabilities, parser) -> capabilities.setLogLevel(logLevel(parser)),
+                "prefs", (capabilities, parser) -> map(parser).forEach(capabilities::addPreference),
+                "profile", (capabilities, parser) -> capabilities.setProfile(FirefoxProfile.fromJson(parser.getValueAsString())),
+                "androidPackage", (capabilities, parser) -> capabilities.setAndroidPackage(parser.getValueAsString()),
+                "androidActivity", (capabilities, parser) -> capabilities.setAndroidActivity(parser.getValueAsString()),
+                "androidDeviceSerial", (capabilities, parser) -> capabilities.setAndroidDeviceSerialNumber(parser.getValueAsString()),
+                "androidIntentArguments", (capabilities, parser) -> capabilities.setAndroidIntentArguments(strings(parser))
+        ), Set.of(FirefoxOptions.FIREFOX_OPTIONS));
+    }
+
     @Override
-    protected void setCapability(FirefoxOptions capabilities, String key, Object value) {
-        switch (key) {
-            case CapabilityType.PAGE_LOAD_STRATEGY -> capabilities.setPageLoadStrategy(PageLoadStrategy.fromString(value.toString()));
-            case "args" -> capabilities.addArguments((List<String>) value);
-            case "binary" -> capabilities.setBinary(value.toString());
-            case "log" -> capabilities.setLogLevel(FirefoxDriverLogLevel.fromString(value.toString()));
-            case "prefs" -> ((Map<String, Object>) value).forEach(capabilities::addPreference);
-            default -> capabilities.setCapability(key, value);
+    protected void setContainerCapability(FirefoxOptions capabilities, String key, Object value) {
+        ((ContainerFirefoxOptions) capabilities).extraOptions.put(key, value);
+    }
+
+    /**
+     * Both {@code "log": "info"} and W3C {@code "log": {"level": "info"}} forms are supported.
+     */
+    private static FirefoxDriverLogLevel logLevel(JsonParser parser) throws IOException {
+        final var level = parser.currentToken() == JsonToken.START_OBJECT ?
+                          String.valueOf(map(parser).get("level")) :
+                          parser.getValueAsString();
+        return FirefoxDriverLogLevel.fromString(level);
+    }
+
+    /**
+     * {@link FirefoxOptions} keeps a closed set of {@code moz:firefoxOptions} keys and has no setter for the others,
+     * so they are kept aside and added to the container. {@link #merge(Capabilities)} keeps them for copies.
+     */
+    private static final class ContainerFirefoxOptions extends FirefoxOptions {
+
+        private final Map<String, Object> extraOptions = new TreeMap<>();
+
+        private ContainerFirefoxOptions() {
         }
+
+        private ContainerFirefoxOptions(FirefoxOptions source, Map<String, Object> extraOptions) {
+            super(source);
+            this.extraOptions.putAll(extraOptions);
+        }
+
+        @Override
+        protected Set<String> getExtraCapabilityNames() {
+            if (extraOptions.isEmpty()) {
+                return super.getExtraCapabilityNames();
+            }
+            final var names = new HashSet<>(super.getExtraCapabilityNames());
+            names.add(FIREFOX_OPTIONS);
+            return Collections.unmodifiableSet(names);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Object getExtraCapability(String capabilityName) {
+            final var value = super.getExtraCapability(capabilityName);
+            if (extraOptions.isEmpty() || !FIREFOX_OPTIONS.equals(capabilityName)) {
+                return value;
+            }
+            final var options = new TreeMap<>(extraOptions);
+            if (value != null) {
+                options.putAll((Map<String, Object>) value); // keys with setters win
+            }
+            return Collections.unmodifiableMap(options);
+        }
+
+        @Override
+        public FirefoxOptions merge(Capabilities capabilities) {
+            return new ContainerFirefoxOptions(super.merge(capabilities), extraOptions);
+        }
+
     }
 
 }
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.driver.capabilities.deserializer;
+
+import java.util.Map;
+import java.util.Set;
+import org.openqa.selenium.safari.SafariOptions;
+
+/**
+ * Support initialization and property setting for {@link SafariOptions}.
+ * <p>
+ * Safari has no vendor container, its options are top-level {@code safari:***} keys.
+ *
+ * @author rev1an (Sergey Alekseev)
+ * @see AbstractDriverOptionsDeserializer
+ */
+public class SafariOptionsDeserializer extends AbstractDriverOptionsDeserializer<SafariOptions> {
+
+    public SafariOptionsDeserializer() {
+        super(SafariOptions::new, Map.of(
+                "safari:automaticInspection", (capabilities, parser) -> capabilities.setAutomaticInspection(parser.getValueAsBoolean()),
+                "safari:automaticProfiling", (capabilities, parser) -> capabilities.setAutomaticProfiling(parser.getValueAsBoolean())
+        ), Set.of());
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.driver;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SessionCreatorTest {
+
+    private static final Duration COOLDOWN = Duration.ofMillis(100);
+    private static final WebDriver DRIVER = (WebDriver) Proxy.newProxyInstance(
+            WebDriver.class.getClassLoader(), new Class<?>[]{WebDriver.class}, (proxy, method, args) -> null);
+
+    private final SessionCreator creator = new SessionCreator(
+            new SessionCreationPolicy(Duration.ZERO, 0, Duration.ZERO, 2, COOLDOWN));
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    public void test_openAfterThreshold() {
+        assertThrows(WebDriverException.class, () -> creator.create(failing()));
+        assertThrows(WebDriverException.class, () -> creator.create(failing()));
+        assertEquals(2, calls.get());
+
+        final var fastFailure = assertThrows(SessionNotCreatedException.class, () -> creator.create(succeeding()));
+        assertEquals(2, calls.get(), "builder is not called while circuit is open");
+        assertEquals("grid is down", fastFailure.getCause().getMessage().lines().findFirst().orElseThrow());
+    }
+
+    @Test
+    public void test_halfOpenLetsSingleTrialThrough() throws InterruptedException {
+        open();
+        Thread.sleep(COOLDOWN.toMillis() * 2);
+
+        final var driver = creator.create(() -> {
+            calls.incrementAndGet();
+            assertThrows(SessionNotCreatedException.class, () -> creator.create(succeeding()),
+                         "other requests fail fast during the trial");
+            return DRIVER;
+        });
+        assertSame(DRIVER, driver);
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void test_closedAfterSuccessfulTrial() throws InterruptedException {
+        open();
+        Thread.sleep(COOLDOWN.toMillis() * 2);
+
+        creator.create(succeeding());
+        creator.create(succeeding());
+        assertThrows(WebDriverException.class, () -> creator.create(failing()));
+        creator.create(succeeding());
+        assertEquals(6, calls.get(), "a single failure after closing doesn't open circuit again");
+    }
+
+    @Test
+    public void test_trialFailingWithOtherExceptionReopens() throws InterruptedException {
+        open();
+        Thread.sleep(COOLDOWN.toMillis() * 2);
+
+        assertThrows(IllegalStateException.class, () -> creator.create(() -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("broken builder");
+        }));
+        assertThrows(SessionNotCreatedException.class, () -> creator.create(succeeding()));
+        assertEquals(3, calls.get());
+
+        Thread.sleep(COOLDOWN.toMillis() * 2);
+        assertSame(DRIVER, creator.create(succeeding()), "next trial is admitted after cooldown");
+    }
+
+    private void open() {
+        assertThrows(WebDriverException.class, () -> creator.create(failing()));
+        assertThrows(WebDriverException.class, () -> creator.create(failing()));
+        assertThrows(SessionNotCreatedException.class, () -> creator.create(succeeding()));
+    }
+
+    private Supplier<WebDriver> failing() {
+        return () -> {
+            calls.incrementAndGet();
+            throw new WebDriverException("grid is down");
+        };
+    }
+
+    private Supplier<WebDriver> succeeding() {
+        return () -> {
+            calls.incrementAndGet();
+            return DRIVER;
+        };
+    }
+
+}
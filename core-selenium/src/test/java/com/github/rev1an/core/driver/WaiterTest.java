@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.driver;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WaiterTest {
+
+    private static final Duration DELAY = Duration.ofMillis(20);
+
+    @Test
+    public void test_reusedWaitStartsPollingOver() throws InterruptedException {
+        final var delays = new CopyOnWriteArrayList<Integer>();
+        final PollingStrategy polling = poll -> {
+            delays.add(poll);
+            return DELAY;
+        };
+        final var driver = new WrappedDriver(fakeDriver(), new DriverTimeouts(Duration.ZERO, Duration.ZERO,
+                                                                               Duration.ZERO, polling));
+        final var wait = driver.waiter().newWait(Duration.ofMillis(300));
+
+        wait.until(afterPolls(3));
+        Thread.sleep(400); // past the deadline of the first until()
+        final var start = System.nanoTime();
+        wait.until(afterPolls(3));
+        final var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertEquals(List.of(1, 2, 1, 2), delays, "poll count restarts with each until()");
+        assertTrue(elapsed.compareTo(DELAY.multipliedBy(2)) >= 0,
+                   "second until() sleeps between polls, took " + elapsed);
+    }
+
+    private static Function<WebDriver, Boolean> afterPolls(int polls) {
+        final var count = new int[]{0};
+        return ignore -> ++count[0] >= polls;
+    }
+
+    private static WebDriver fakeDriver() {
+        return (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(), new Class<?>[]{WebDriver.class},
+                                                  (proxy, method, args) -> null);
+    }
+
+}
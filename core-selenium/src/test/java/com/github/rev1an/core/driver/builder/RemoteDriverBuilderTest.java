@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.driver.builder;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.remote.DesiredCapabilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RemoteDriverBuilderTest {
+
+    private final StubHub first = new StubHub();
+    private final StubHub second = new StubHub();
+
+    @AfterEach
+    public void stopHubs() {
+        first.stop();
+        second.stop();
+    }
+
+    @Test
+    public void test_failover() {
+        first.healthy = false;
+        final var builder = builder(first, second);
+
+        builder.build().quit();
+        assertEquals(1, first.sessions.get());
+        assertEquals(1, second.sessions.get());
+    }
+
+    @Test
+    public void test_eachEndpointAtMostOnce() {
+        first.healthy = false;
+        second.healthy = false;
+        final var builder = builder(first, second);
+
+        for (int build = 1; build <= 4; build++) { // hubs are ejected after the second build
+            assertThrows(SessionNotCreatedException.class, builder::build);
+            assertEquals(build, first.sessions.get());
+            assertEquals(build, second.sessions.get());
+        }
+    }
+
+    @Test
+    public void test_ejection() {
+        first.healthy = false;
+        final var builder = builder(first, second);
+
+        builder.build().quit();
+        builder.build().quit();
+        assertEquals(2, first.sessions.get(), "first hub is ejected after two failures in a row");
+
+        first.healthy = true;
+        for (int i = 0; i < 4; i++) {
+            builder.build().quit();
+        }
+        assertEquals(2, first.sessions.get(), "ejected hub gets no sessions during cooldown");
+        assertEquals(6, second.sessions.get());
+    }
+
+    private static RemoteDriverBuilder builder(StubHub... hubs) {
+        final var urls = new StringBuilder();
+        for (final var hub : hubs) {
+            urls.append(urls.isEmpty() ? "" : ",").append(hub.url());
+        }
+        return new RemoteDriverBuilder(new DesiredCapabilities("chrome", "", null), urls.toString());
+    }
+
+    /**
+     * Stand-in for a hub, that answers {@code POST /session} and {@code DELETE /session/{id}}.
+     */
+    private static final class StubHub {
+
+        private final HttpServer server;
+        private final AtomicInteger sessions = new AtomicInteger();
+        private volatile boolean healthy = true;
+
+        private StubHub() {
+            try {
+                server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            server.createContext("/", this::handle);
+            server.start();
+        }
+
+        private String url() {
+            return "http://127.0.0.1:%d/".formatted(server.getAddress().getPort());
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            final var path = exchange.getRequestURI().getPath();
+            if (exchange.getRequestMethod().equals("POST") && path.equals("/session")) {
+                sessions.incrementAndGet();
+                if (healthy) {
+                    respond(exchange, 200, """
+                                           {"value": {"sessionId": "stub", "capabilities": {"browserName": "chrome"}}}
+                                           """);
+                } else {
+                    respond(exchange, 500, """
+                                           {"value": {"error": "session not created", "message": "stub is down",
+                                                      "stacktrace": ""}}
+                                           """);
+                }
+            } else {
+                respond(exchange, 200, "{\"value\": null}");
+            }
+        }
+
+        private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+            final var bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (var out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+
+        private void stop() {
+            server.stop(0);
+        }
+
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.driver.capabilities.deserializer;
+
+import java.util.List;
+import java.util.Map;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class FirefoxOptionsDeserializerTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(
+            new SimpleModule().addDeserializer(FirefoxOptions.class, new FirefoxOptionsDeserializer()));
+    private static final String OPTIONS = """
+                                          {
+                                              "moz:firefoxOptions": {
+                                                  "args": ["-headless"],
+                                                  "env": {"MOZ_LOG": "sync"},
+                                                  "log": {"level": "trace"},
+                                                  "custom": 42
+                                              },
+                                              "se:name": "firefox"
+                                          }
+                                          """;
+
+    @Test
+    public void test_keysWithoutSetterStayInsideContainer() throws JsonProcessingException {
+        final var options = MAPPER.readValue(OPTIONS, FirefoxOptions.class);
+
+        final var container = container(options);
+        assertEquals(Map.of("MOZ_LOG", "sync"), container.get("env"));
+        assertEquals(42, container.get("custom"));
+        assertEquals(List.of("-headless"), container.get("args"));
+        assertEquals(Map.of("level", "trace"), container.get("log"));
+        assertEquals("firefox", options.getCapability("se:name"));
+        assertFalse(options.asMap().containsKey("env"));
+        assertFalse(options.asMap().containsKey("custom"));
+    }
+
+    @Test
+    public void test_mergedCopyKeepsContainerKeys() throws JsonProcessingException {
+        final var options = MAPPER.readValue(OPTIONS, FirefoxOptions.class);
+
+        final var copy = options.merge(new ImmutableCapabilities("se:name", "copy"));
+        assertEquals(container(options), container(copy));
+        assertEquals("copy", copy.getCapability("se:name"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> container(FirefoxOptions options) {
+        return (Map<String, Object>) options.asMap().get(FirefoxOptions.FIREFOX_OPTIONS);
+    }
+
+}
@@ -6,13 +6,29 @@
 
 package com.github.rev1an.core.json;
 
+import java.util.Arrays;
+import java.util.Locale;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
 /**
  * Singleton wrapper around default instance of {@link JacksonMapper}
+ * <p>
+ * Mapper is created according to {@link Profile} from {@code jackson.profile} system property, {@code default}
+ * if absent or unknown. Copies made with {@link JacksonMapper#copy()} keep modules and factory settings of the profile.
  *
  * @author rev1an (Sergey Alekseev)
  */
 public final class JacksonHolder {
 
+    private static final String PROFILE = "jackson.profile";
+    private static final Logger LOG = LogManager.getLogger(JacksonHolder.class);
+
     /**
      * Reusable singleton instance, mostly for copying and utility actions.
      */
@@ -22,10 +38,76 @@ public final class JacksonHolder {
      * Global settings and modules can be configured here.
      * */
     static {
-        DEFAULT = new JacksonMapper();
+        DEFAULT = profile().create();
     }
 
     private JacksonHolder() {
     }
 
+    /**
+     * A typo in the property must not fail class initialization, which would break every test using JSON.
+     */
+    private static Profile profile() {
+        final var name = System.getProperty(PROFILE, Profile.DEFAULT.name());
+        try {
+            return Profile.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Unknown {} '{}', expected one of {}, falling back to {}",
+                     PROFILE, name, Arrays.toString(Profile.values()), Profile.DEFAULT);
+            return Profile.DEFAULT;
+        }
+    }
+
+    /**
+     * Preset of {@link JacksonMapper} configuration, selected with {@code jackson.profile} system property,
+     * case-insensitive.
+     */
+    public enum Profile {
+
+        /**
+         * Plain Jackson defaults.
+         */
+        DEFAULT {
+            @Override
+            public JacksonMapper create() {
+                return new JacksonMapper();
+            }
+        },
+
+        /**
+         * For DTO heavy, multithreaded suites:
+         * <ul>
+         *     <li>{@link BlackbirdModule} replaces reflective getters, setters and constructors of beans with
+         *     generated lambdas</li>
+         *     <li>parser and generator buffers are recycled through a pool shared by all threads, instead of
+         *     a per-thread one, that is lost with short-lived or virtual threads</li>
+         *     <li>field names are not interned, as {@link String#intern()} contends under parallel load, and fast
+         *     floating-point parsing and writing is enabled</li>
+         *     <li>source is not kept for error locations, so messages don't include a payload snippet</li>
+         * </ul>
+         */
+        PERFORMANCE {
+            @Override
+            public JacksonMapper create() {
+                final var factory = JsonFactory.builder()
+                                               .recyclerPool(JsonRecyclerPools.sharedConcurrentDequePool())
+                                               .disable(JsonFactory.Feature.INTERN_FIELD_NAMES)
+                                               .disable(StreamReadFeature.INCLUDE_SOURCE_IN_LOCATION)
+                                               .enable(StreamReadFeature.USE_FAST_DOUBLE_PARSER)
+                                               .enable(StreamReadFeature.USE_FAST_BIG_NUMBER_PARSER)
+                                               .enable(StreamWriteFeature.USE_FAST_DOUBLE_WRITER)
+                                               .build();
+                final var mapper = new JacksonMapper(factory);
+                mapper.registerModule(new BlackbirdModule());
+                return mapper;
+            }
+        };
+
+        /**
+         * @return new mapper configured for the profile
+         */
+        public abstract JacksonMapper create();
+
+    }
+
 }
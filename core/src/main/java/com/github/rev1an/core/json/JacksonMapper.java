@@ -6,16 +6,41 @@
 
 package com.github.rev1an.core.json;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.InjectableValues;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
 /**
  * Expanding {@link ObjectMapper} with additional behaviour.
+ * <p>
+ * {@link ObjectReader}'s and {@link ObjectWriter}'s for a type are built once and cached, so repeated
+ * {@code readerFor(...).readValue(...)} calls skip type resolution and root (de)serializer lookup. Cached instances
+ * are dropped when mapper configuration, modules or injectable values change. {@code asJsonNode(...)} overloads
+ * parse bytes, buffers, streams and files directly, without a {@link String} copy.
  */
 public class JacksonMapper extends ObjectMapper {
 
+    private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<Type, ObjectWriter> writers = new ConcurrentHashMap<>();
+
     /**
      * {@inheritDoc}
      */
@@ -23,6 +48,15 @@ public class JacksonMapper extends ObjectMapper {
         super();
     }
 
+    /**
+     * @param factory tuned factory of parsers and generators, see {@link JacksonHolder.Profile}
+     *
+     * @see ObjectMapper#ObjectMapper(JsonFactory)
+     */
+    public JacksonMapper(JsonFactory factory) {
+        super(factory);
+    }
+
     /**
      * Support {@link #copy()} method
      *
@@ -37,6 +71,58 @@ public class JacksonMapper extends ObjectMapper {
         return new JacksonMapper(this);
     }
 
+    @Override
+    public ObjectReader readerFor(JavaType type) {
+        return reader(type, () -> super.readerFor(type));
+    }
+
+    @Override
+    public ObjectReader readerFor(Class<?> type) {
+        return reader(type, () -> super.readerFor(type));
+    }
+
+    /**
+     * Cached by referenced type, so constants of {@link TypeReferences} and equal anonymous references share
+     * an instance.
+     */
+    @Override
+    public ObjectReader readerFor(TypeReference<?> type) {
+        return reader(type.getType(), () -> super.readerFor(type));
+    }
+
+    @Override
+    public ObjectWriter writerFor(JavaType rootType) {
+        return writer(rootType, () -> super.writerFor(rootType));
+    }
+
+    @Override
+    public ObjectWriter writerFor(Class<?> rootType) {
+        return writer(rootType, () -> super.writerFor(rootType));
+    }
+
+    @Override
+    public ObjectWriter writerFor(TypeReference<?> rootType) {
+        return writer(rootType.getType(), () -> super.writerFor(rootType));
+    }
+
+    @Override
+    public ObjectMapper registerModule(Module module) {
+        final var mapper = super.registerModule(module);
+        readers.clear();
+        writers.clear();
+        return mapper;
+    }
+
+    /**
+     * Readers capture injectable values when built, so cached ones are dropped.
+     */
+    @Override
+    public ObjectMapper setInjectableValues(InjectableValues injectableValues) {
+        final var mapper = super.setInjectableValues(injectableValues);
+        readers.clear();
+        return mapper;
+    }
+
     public JsonNode asJsonNode(String content) {
         try {
             return super.readTree(content);
@@ -45,4 +131,72 @@ public class JacksonMapper extends ObjectMapper {
         }
     }
 
+    /**
+     * Parse UTF-8 (or other JSON encoding) bytes, i.e. HTTP response body, without decoding to {@link String} first.
+     */
+    public JsonNode asJsonNode(byte[] content) {
+        try {
+            return super.readTree(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parse the buffer from its position to limit, buffer itself is not modified.
+     */
+    public JsonNode asJsonNode(ByteBuffer content) {
+        try {
+            if (content.hasArray()) {
+                return super.readTree(content.array(), content.arrayOffset() + content.position(), content.remaining());
+            }
+            return super.readTree(new ByteBufferBackedInputStream(content.duplicate()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parse the stream, it's closed afterwards.
+     */
+    public JsonNode asJsonNode(InputStream content) {
+        try (content) {
+            return super.readTree(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public JsonNode asJsonNode(Path content) {
+        try (var stream = Files.newInputStream(content)) {
+            return super.readTree(stream);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot parse JSON from %s".formatted(content), e);
+        }
+    }
+
+    /**
+     * Cached reader is reused only while it was built with the current configuration: any {@code configure(...)},
+     * {@code enable(...)} or {@code set...(...)} call replaces configuration object.
+     */
+    private ObjectReader reader(Type type, Supplier<ObjectReader> factory) {
+        final var reader = readers.get(type);
+        if (reader != null && reader.getConfig() == getDeserializationConfig()) {
+            return reader;
+        }
+        final var created = factory.get();
+        readers.put(type, created);
+        return created;
+    }
+
+    private ObjectWriter writer(Type type, Supplier<ObjectWriter> factory) {
+        final var writer = writers.get(type);
+        if (writer != null && writer.getConfig() == getSerializationConfig()) {
+            return writer;
+        }
+        final var created = factory.get();
+        writers.put(type, created);
+        return created;
+    }
+
 }
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Assertions on a JSON document, evaluated in a single pass of a streaming parser, so that 100+ MB responses are
+ * validated in constant memory, without building a tree or a {@link String}.
+ * <p>
+ * Values are selected with {@link JsonStreamPath}. Only selected values are materialized, one at a time, and
+ * subtrees no path can reach are skipped. All checks are evaluated, then failures are reported together:
+ * <pre>
+ * JsonStreamAssertions.of(response.asInputStream())
+ *                     .count("$.data[*]", 6)
+ *                     .everyItem("$.data[*].email", email -> email.asText().endsWith("@reqres.in"), "@reqres.in email")
+ *                     .verify();
+ * </pre>
+ *
+ * @author rev1an (Sergey Alekseev)
+ */
+public final class JsonStreamAssertions {
+
+    private static final int REPORTED_ITEMS = 3;
+
+    private final InputStream body;
+    private final List<Check> checks = new ArrayList<>();
+
+    private JsonStreamAssertions(InputStream body) {
+        this.body = body;
+    }
+
+    /**
+     * @param body JSON document, closed by {@link #verify()}
+     */
+    public static JsonStreamAssertions of(InputStream body) {
+        return new JsonStreamAssertions(body);
+    }
+
+    /**
+     * At least one value is selected by path.
+     */
+    public JsonStreamAssertions exists(String path) {
+        return count(path, count -> count > 0, "at least one value");
+    }
+
+    public JsonStreamAssertions count(String path, long expected) {
+        return count(path, count -> count == expected, "%d values".formatted(expected));
+    }
+
+    /**
+     * @param condition   on number of values selected by path
+     * @param description of expected number, for failure message
+     */
+    public JsonStreamAssertions count(String path, LongPredicate condition, String description) {
+        checks.add(new Check(JsonStreamPath.compile(path)) {
+            @Override
+            Optional<String> failure() {
+                return condition.test(matched)
+                       ? Optional.empty()
+                       : Optional.of("expected %s, but found %d".formatted(description, matched));
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Every value selected by path matches condition; passes if none are selected, use {@link #exists(String)}
+     * or {@code count(...)} as well if that matters.
+     */
+    public JsonStreamAssertions everyItem(String path, Predicate<JsonNode> condition, String description) {
+        checks.add(new ItemCheck(JsonStreamPath.compile(path), condition) {
+            @Override
+            Optional<String> failure() {
+                return mismatched.isEmpty()
+                       ? Optional.empty()
+                       : Optional.of("expected every item to be %s, but %d of %d are not: %s".formatted(
+                               description, mismatchCount, matched, mismatched));
+            }
+        });
+        return this;
+    }
+
+    /**
+     * At least one value selected by path matches condition.
+     */
+    public JsonStreamAssertions anyItem(String path, Predicate<JsonNode> condition, String description) {
+        checks.add(new ItemCheck(JsonStreamPath.compile(path), condition) {
+            @Override
+            Optional<String> failure() {
+                return matched > mismatchCount
+                       ? Optional.empty()
+                       : Optional.of("expected any item to be %s, but none of %d are, i.e. %s".formatted(
+                               description, matched, mismatched));
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Read the document and evaluate all checks.
+     *
+     * @throws AssertionError       listing every failed check
+     * @throws UncheckedIOException if document can't be read or is not a valid JSON
+     */
+    public void verify() {
+        try (var parser = JacksonHolder.DEFAULT.createParser(body)) {
+            read(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read JSON document", e);
+        }
+        final var failures = new StringBuilder();
+        for (final var check : checks) {
+            check.failure().ifPresent(failure -> failures.append(System.lineSeparator())
+                                                         .append(check.path)
+                                                         .append(": ")
+                                                         .append(failure));
+        }
+        if (!failures.isEmpty()) {
+            throw new AssertionError("JSON document doesn't match:" + failures);
+        }
+    }
+
+    private void read(JsonParser parser) throws IOException {
+        final var location = new ArrayList<>(); // field names and array indexes, parser is at the last one
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            if (token == JsonToken.FIELD_NAME) {
+                location.set(location.size() - 1, parser.currentName());
+                continue;
+            }
+            if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                location.remove(location.size() - 1);
+                continue;
+            }
+            final var context = token.isStructStart() // parser is already inside a started container
+                                ? parser.getParsingContext().getParent()
+                                : parser.getParsingContext();
+            if (context.inArray()) {
+                location.set(location.size() - 1, context.getCurrentIndex());
+            }
+            List<Check> matching = null; // allocated only for selected values, most tokens are not
+            List<Check> nested = null;
+            for (final var check : checks) {
+                if (check.path.matches(location)) {
+                    matching = add(matching, check);
+                } else if (token.isStructStart() && check.path.contains(location)) {
+                    nested = add(nested, check);
+                }
+            }
+            if (matching == null) {
+                if (nested == null) {
+                    parser.skipChildren();
+                } else {
+                    location.add(null); // descend, set by the next field name or item
+                }
+                continue;
+            }
+            final JsonNode value = parser.readValueAsTree();
+            matching.forEach(check -> check.accept(value));
+            if (nested != null) {
+                nested.forEach(check -> check.path.select(value, location.size()).forEach(check::accept));
+            }
+        }
+    }
+
+    private static List<Check> add(List<Check> checks, Check check) {
+        final var result = checks == null ? new ArrayList<Check>() : checks;
+        result.add(check);
+        return result;
+    }
+
+    private abstract static class Check {
+
+        final JsonStreamPath path;
+        long matched;
+
+        private Check(JsonStreamPath path) {
+            this.path = path;
+        }
+
+        void accept(JsonNode value) {
+            matched++;
+        }
+
+        abstract Optional<String> failure();
+
+    }
+
+    /**
+     * Keeps a few mismatched values for failure message.
+     */
+    private abstract static class ItemCheck extends Check {
+
+        final Predicate<JsonNode> condition;
+        final List<String> mismatched = new ArrayList<>();
+        long mismatchCount;
+
+        private ItemCheck(JsonStreamPath path, Predicate<JsonNode> condition) {
+            super(path);
+            this.condition = condition;
+        }
+
+        @Override
+        void accept(JsonNode value) {
+            super.accept(value);
+            if (!condition.test(value)) {
+                mismatchCount++;
+                if (mismatched.size() < REPORTED_ITEMS) {
+                    mismatched.add("#%d %s".formatted(matched - 1, value));
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.json;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Restricted JSON path, that can be matched against a location of a streaming parser:
+ * <ul>
+ *     <li>{@code $} - root, optional</li>
+ *     <li>{@code .name} or {@code ['name']} - object field</li>
+ *     <li>{@code [*]} - any array item</li>
+ *     <li>{@code [2]} - array item by index</li>
+ * </ul>
+ * I.e. {@code $.data[*].email}. Recursive descent, filters and slices are not supported.
+ *
+ * @author rev1an (Sergey Alekseev)
+ * @see JsonStreamAssertions
+ */
+public final class JsonStreamPath {
+
+    private final String expression;
+    private final List<Segment> segments;
+
+    private JsonStreamPath(String expression, List<Segment> segments) {
+        this.expression = expression;
+        this.segments = segments;
+    }
+
+    /**
+     * @throws IllegalArgumentException if expression is not supported
+     */
+    public static JsonStreamPath compile(String expression) {
+        final var segments = new ArrayList<Segment>();
+        var position = expression.startsWith("$") ? 1 : 0;
+        while (position < expression.length()) {
+            final var current = expression.charAt(position);
+            if (current == '[') {
+                final var end = expression.indexOf(']', position);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unclosed '[' in %s".formatted(expression));
+                }
+                segments.add(Segment.parse(expression, expression.substring(position + 1, end).trim()));
+                position = end + 1;
+            } else {
+                final var start = current == '.' ? position + 1 : position;
+                var end = start;
+                while (end < expression.length() && expression.charAt(end) != '.' && expression.charAt(end) != '[') {
+                    end++;
+                }
+                if (end == start) {
+                    throw new IllegalArgumentException("Empty field name at %d in %s".formatted(start, expression));
+                }
+                segments.add(new Segment(expression.substring(start, end), -1));
+                position = end;
+            }
+        }
+        return new JsonStreamPath(expression, List.copyOf(segments));
+    }
+
+    /**
+     * @param location field names and array indexes from the root, as tracked by a parser
+     *
+     * @return {@code true} if value at location is selected by the path
+     */
+    boolean matches(List<Object> location) {
+        return location.size() == segments.size() && startsWith(location);
+    }
+
+    /**
+     * @return {@code true} if values selected by the path may be nested in a value at location
+     */
+    boolean contains(List<Object> location) {
+        return location.size() < segments.size() && startsWith(location);
+    }
+
+    /**
+     * @param node  value at a location this path {@link #contains(List)}
+     * @param depth size of the location
+     *
+     * @return values selected by the rest of the path within node
+     */
+    Stream<JsonNode> select(JsonNode node, int depth) {
+        if (depth == segments.size()) {
+            return Stream.of(node);
+        }
+        final var segment = segments.get(depth);
+        if (segment.name() != null) {
+            return node.isObject() && node.has(segment.name())
+                   ? select(node.get(segment.name()), depth + 1)
+                   : Stream.empty();
+        }
+        if (!node.isArray()) {
+            return Stream.empty();
+        }
+        if (segment.index() >= 0) {
+            return segment.index() < node.size() ? select(node.get(segment.index()), depth + 1) : Stream.empty();
+        }
+        return StreamSupport.stream(node.spliterator(), false).flatMap(item -> select(item, depth + 1));
+    }
+
+    private boolean startsWith(List<Object> location) {
+        for (int i = 0; i < location.size(); i++) {
+            if (!segments.get(i).matches(location.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    /**
+     * @param name  field name, {@code null} for array item
+     * @param index item index, negative for any item
+     */
+    private record Segment(String name, int index) {
+
+        private static Segment parse(String expression, String content) {
+            if (content.equals("*")) {
+                return new Segment(null, -1);
+            }
+            if (content.length() >= 2 && (content.startsWith("'") && content.endsWith("'")
+                                          || content.startsWith("\"") && content.endsWith("\""))) {
+                return new Segment(content.substring(1, content.length() - 1), -1);
+            }
+            try {
+                return new Segment(null, Integer.parseUnsignedInt(content));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Unsupported [%s] in %s".formatted(content, expression), e);
+            }
+        }
+
+        private boolean matches(Object element) {
+            if (element instanceof String field) {
+                return field.equals(name);
+            }
+            return name == null && (index < 0 || index == (Integer) element);
+        }
+
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free, fixed size histogram of durations in nanoseconds.
+ * <p>
+ * Values are put into log-linear buckets: each power of two is split into 8 sub-buckets, so percentiles are
+ * reported with at most 12.5% error, while memory stays constant (~4 KB) no matter how many values are recorded.
+ * Maximum is tracked exactly.
+ *
+ * @author rev1an (Sergey Alekseev)
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * @param nanos duration in nanoseconds, negative values are recorded as {@code 0}
+     */
+    public void record(long nanos) {
+        final var value = Math.max(0, nanos);
+        counts.incrementAndGet(index(value));
+        count.increment();
+        sum.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * @param duration duration to record
+     */
+    public void record(Duration duration) {
+        record(duration.toNanos());
+    }
+
+    /**
+     * @return number of recorded values
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * @param quantile value in {@code [0, 1]} range, i.e. {@code 0.95}
+     *
+     * @return approximate value at {@code quantile}, in nanoseconds
+     */
+    public long percentile(double quantile) {
+        final var total = count();
+        if (total == 0) {
+            return 0;
+        }
+        final var target = Math.max(1, (long) Math.ceil(quantile * total));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulative += counts.get(i);
+            if (cumulative >= target) {
+                return Math.min(upperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * @return consistent enough view of this histogram
+     */
+    public Snapshot snapshot() {
+        final var total = count();
+        return new Snapshot(total,
+                            total == 0 ? 0 : sum.sum() / total,
+                            percentile(0.50),
+                            percentile(0.95),
+                            percentile(0.99),
+                            max.get());
+    }
+
+    private static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final var exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final var shift = exponent - SUB_BUCKET_BITS;
+        final var mantissa = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + mantissa;
+    }
+
+    private static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final var shift = index / SUB_BUCKETS - 1;
+        final var mantissa = index % SUB_BUCKETS;
+        final var lower = (long) (SUB_BUCKETS + mantissa) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    /**
+     * Point in time statistics, all durations are in nanoseconds.
+     *
+     * @param count number of recorded values
+     * @param mean  arithmetic mean
+     * @param p50   median
+     * @param p95   95th percentile
+     * @param p99   99th percentile
+     * @param max   maximum
+     */
+    public record Snapshot(long count,
+                           long mean,
+                           long p50,
+                           long p95,
+                           long p99,
+                           long max) {
+
+    }
+
+}
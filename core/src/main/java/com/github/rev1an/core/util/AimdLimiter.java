@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Adaptive concurrency limit: <em>additive increase, multiplicative decrease</em>.
+ * <p>
+ * Work is let through while fewer than {@link #limit()} permits are held. Once per {@code window} the limit is
+ * adjusted:
+ * <ul>
+ *     <li>if any sample in the window failed (timeout, session not created) or was a latency spike,
+ *     the limit is multiplied by {@code backoff},</li>
+ *     <li>otherwise, if the limit was actually reached, it's increased by one.</li>
+ * </ul>
+ * Latency is tracked per series, i.e. {@code session} or {@code WebDriver.findElement}: a sample is a spike if
+ * recent average of its series exceeds long-term average {@code tolerance} times, so fast and slow commands
+ * don't mix.
+ * <p>
+ * Libraries report samples with static {@link #report(String, long, boolean)}, which is a no-op until a limiter is
+ * {@link #install(AimdLimiter)}ed.
+ *
+ * @author rev1an (Sergey Alekseev)
+ */
+public final class AimdLimiter {
+
+    private static final int WARMUP_SAMPLES = 5;
+    private static final double RECENT_WEIGHT = 0.3;
+    private static final double BASELINE_WEIGHT = 0.02;
+
+    private static volatile AimdLimiter installed = null;
+
+    private final Settings settings;
+    private final long start = System.nanoTime();
+    private final Map<String, Series> series = new ConcurrentHashMap<>();
+    private final List<Change> history = new ArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    private double limit;
+    private int inFlight = 0;
+    private int peakInFlight = 0;
+    private long windowStart = start;
+    private volatile String congestion = null;
+
+    /**
+     * @param settings limiter settings
+     */
+    public AimdLimiter(Settings settings) {
+        this.settings = settings;
+        this.limit = settings.initial();
+        history.add(new Change(Duration.ZERO, settings.initial(), "initial"));
+    }
+
+    /**
+     * Make {@code limiter} receive samples from {@link #report(String, long, boolean)}.
+     *
+     * @param limiter limiter, or {@code null} to stop receiving samples
+     */
+    public static void install(AimdLimiter limiter) {
+        installed = limiter;
+    }
+
+    /**
+     * @return {@code true} if a limiter receives samples
+     */
+    public static boolean isInstalled() {
+        return installed != null;
+    }
+
+    /**
+     * Report a sample to installed limiter, if any.
+     *
+     * @param series name of operation, samples are compared within the same series only
+     * @param nanos  latency
+     * @param failed {@code true} if operation timed out or failed because of overload
+     */
+    public static void report(String series, long nanos, boolean failed) {
+        final var limiter = installed;
+        if (limiter != null) {
+            limiter.sample(series, nanos, failed);
+        }
+    }
+
+    /**
+     * Wait until a permit is available and take it.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            adjust();
+            while (inFlight >= (int) limit) {
+                released.await();
+            }
+            peakInFlight = Math.max(peakInFlight, ++inFlight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Return a permit taken by {@link #acquire()}.
+     */
+    public void release() {
+        lock.lock();
+        try {
+            inFlight--;
+            adjust();
+            released.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param series name of operation, samples are compared within the same series only
+     * @param nanos  latency
+     * @param failed {@code true} if operation timed out or failed because of overload
+     */
+    public void sample(String series, long nanos, boolean failed) {
+        if (failed) {
+            congestion = series + " failed";
+        } else if (this.series.computeIfAbsent(series, ignore -> new Series()).isSpike(nanos, settings.tolerance())) {
+            congestion = series + " latency spike";
+        }
+        if (System.nanoTime() - windowStart >= settings.window().toNanos() && lock.tryLock()) {
+            try {
+                adjust();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * @return current limit
+     */
+    public int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return limit changes since creation
+     */
+    public List<Change> history() {
+        lock.lock();
+        try {
+            return List.copyOf(history);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return human-readable table of limit changes
+     */
+    public String summary() {
+        final var table = new StringBuilder("%10s %6s  %s%n".formatted("time, s", "limit", "reason"));
+        for (final var change : history()) {
+            table.append("%10.1f %6d  %s%n".formatted(change.at().toMillis() / 1e3, change.limit(), change.reason()));
+        }
+        return table.toString();
+    }
+
+    /**
+     * Called under lock.
+     */
+    private void adjust() {
+        final var now = System.nanoTime();
+        if (now - windowStart < settings.window().toNanos()) {
+            return;
+        }
+        final var previous = (int) limit;
+        final var reason = congestion;
+        if (reason != null) {
+            limit = Math.max(settings.min(), limit * settings.backoff());
+        } else if (peakInFlight >= previous) {
+            limit = Math.min(settings.max(), limit + 1);
+            released.signalAll();
+        }
+        if ((int) limit != previous) {
+            history.add(new Change(Duration.ofNanos(now - start), (int) limit,
+                                   reason != null ? reason : "limit reached, healthy"));
+        }
+        congestion = null;
+        peakInFlight = inFlight;
+        windowStart = now;
+    }
+
+    /**
+     * Limiter settings.
+     *
+     * @param initial   initial limit
+     * @param min       limit never goes below
+     * @param max       limit never goes above
+     * @param backoff   multiplier applied on congestion, between {@code 0} and {@code 1}
+     * @param tolerance how many times recent latency may exceed long-term one before it's a spike
+     * @param window    how often the limit is adjusted
+     */
+    public record Settings(int initial,
+                           int min,
+                           int max,
+                           double backoff,
+                           double tolerance,
+                           Duration window) {
+
+    }
+
+    /**
+     * One limit change.
+     *
+     * @param at     time since limiter creation
+     * @param limit  new limit
+     * @param reason why limit was changed
+     */
+    public record Change(Duration at,
+                         int limit,
+                         String reason) {
+
+    }
+
+    /**
+     * Recent and long-term average latency of one series.
+     */
+    private static final class Series {
+
+        private int count = 0;
+        private double recent = 0;
+        private double baseline = 0;
+
+        private synchronized boolean isSpike(long nanos, double tolerance) {
+            if (count++ == 0) {
+                recent = baseline = nanos;
+                return false;
+            }
+            recent += RECENT_WEIGHT * (nanos - recent);
+            baseline += BASELINE_WEIGHT * (nanos - baseline);
+            return count > WARMUP_SAMPLES && recent > tolerance * baseline;
+        }
+
+    }
+
+}
@@ -6,22 +6,113 @@
 
 package com.github.rev1an.core.util;
 
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
 /**
  * Reflection magic
+ * <p>
+ * Classes are looked up once per name, and constructors are turned into plain {@link Function}'s with
+ * {@link LambdaMetafactory}, so invoking them costs the same as {@code new}. Factories are cached per signature,
+ * so it's cheap to ask for the same one repeatedly. If a class is not visible from this class loader,
+ * a {@link MethodHandle} is invoked instead.
+ * <p>
+ * Exceptions thrown by constructors are propagated as is, without {@code InvocationTargetException} wrapping.
  *
  * @author rev1an (Sergey Alekseev)
  */
 public final class ReflectionUtils {
 
+    private static final Map<String, Class<?>> CLASSES = new ConcurrentHashMap<>();
+    private static final Map<Signature, Object> FACTORIES = new ConcurrentHashMap<>();
+
     private ReflectionUtils() {
     }
 
     public static Class<?> findClass(String driverClass) {
+        final var clazz = CLASSES.get(driverClass);
+        if (clazz != null) {
+            return clazz;
+        }
         try {
-            return Class.forName(driverClass);
+            final var found = Class.forName(driverClass);
+            CLASSES.putIfAbsent(driverClass, found);
+            return found;
         } catch (ClassNotFoundException e) {
             throw new RuntimeException("Cannot find class with name: %s".formatted(driverClass), e);
         }
     }
 
+    /**
+     * @param type          class with public constructor of a single parameter
+     * @param parameterType exact type of constructor parameter
+     *
+     * @return factory of new instances
+     *
+     * @throws RuntimeException if no such constructor found
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, T> Function<A, T> constructor(Class<T> type, Class<A> parameterType) {
+        return (Function<A, T>) FACTORIES.computeIfAbsent(new Signature(type, parameterType), signature -> {
+            final var handle = findConstructor(type, MethodType.methodType(void.class, parameterType));
+            if (isVisible(type) && isVisible(parameterType)) {
+                return metafactory(Function.class, "apply", MethodType.methodType(Object.class, Object.class), handle);
+            }
+            return (Function<A, T>) argument -> invoke(handle, argument);
+        });
+    }
+
+    private static MethodHandle findConstructor(Class<?> type, MethodType methodType) {
+        try {
+            return MethodHandles.publicLookup().findConstructor(type, methodType);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new RuntimeException("Unable to find public constructor of %s with parameters %s".formatted(
+                    type.getName(), methodType.parameterList()), e);
+        }
+    }
+
+    /**
+     * Generated lambda class is defined next to this class, so it must see the constructed type. Primitive parameters
+     * are not visible either, as they need unboxing.
+     */
+    private static boolean isVisible(Class<?> type) {
+        try {
+            return Class.forName(type.getName(), false, ReflectionUtils.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static Object metafactory(Class<?> functionalInterface, String method, MethodType erased,
+                                      MethodHandle constructor) {
+        try {
+            return LambdaMetafactory.metafactory(MethodHandles.lookup(), method,
+                                                 MethodType.methodType(functionalInterface), erased, constructor,
+                                                 constructor.type())
+                                    .getTarget()
+                                    .invoke();
+        } catch (Throwable e) {
+            throw new RuntimeException("Cannot generate factory of %s".formatted(constructor.type().returnType()), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T invoke(MethodHandle handle, Object... arguments) {
+        try {
+            return (T) handle.invokeWithArguments(arguments);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException("Cannot create instance of %s".formatted(handle.type().returnType()), e);
+        }
+    }
+
+    private record Signature(Class<?> type, Class<?> parameter) {
+    }
+
 }
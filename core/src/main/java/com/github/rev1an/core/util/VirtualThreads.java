@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Access to virtual threads without raising the required Java version.
+ * <p>
+ * Projects are compiled for <em>Java 17</em>, where virtual threads don't exist yet. On <em>Java 21+</em>
+ * {@link Executors}{@code #newVirtualThreadPerTaskExecutor()} is looked up and used, otherwise an unbounded pool of
+ * <em>daemon</em> platform threads is used instead.
+ *
+ * @author rev1an (Sergey Alekseev)
+ */
+public final class VirtualThreads {
+
+    private static final MethodHandle NEW_VIRTUAL_EXECUTOR = findVirtualExecutorFactory();
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * @return {@code true} if running JVM supports virtual threads
+     */
+    public static boolean available() {
+        return NEW_VIRTUAL_EXECUTOR != null;
+    }
+
+    /**
+     * Create an executor that starts a new (virtual, if {@link #available()}) thread for each task.
+     *
+     * @param name prefix for platform thread names, ignored for virtual threads
+     *
+     * @return new {@link ExecutorService}
+     */
+    public static ExecutorService newExecutor(String name) {
+        if (NEW_VIRTUAL_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_EXECUTOR.invokeExact();
+            } catch (Throwable e) {
+                throw new IllegalStateException("Cannot create virtual thread executor", e);
+            }
+        }
+        final var counter = new AtomicInteger();
+        return Executors.newCachedThreadPool(task -> {
+            final var thread = new Thread(task, "%s-%d".formatted(name, counter.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static MethodHandle findVirtualExecutorFactory() {
+        if (Runtime.version().feature() < 21) {
+            return null; // not present, or preview API in Java 19 - 20
+        }
+        try {
+            return MethodHandles.publicLookup()
+                                .findStatic(Executors.class,
+                                            "newVirtualThreadPerTaskExecutor",
+                                            MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.json;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JsonStreamAssertionsTest {
+
+    private static final String USERS = """
+                                        {
+                                            "page": 1,
+                                            "data": [
+                                                {"id": 1, "email": "george@reqres.in", "tags": ["a", "b"]},
+                                                {"id": 2, "email": "janet@reqres.in", "tags": []},
+                                                {"id": 3, "email": "emma@reqres.in", "tags": ["c"]}
+                                            ],
+                                            "matrix": [[1, 2], [], [3]],
+                                            "empty": [],
+                                            "meta": {}
+                                        }
+                                        """;
+
+    @Test
+    public void test_emptyContainers() {
+        of(USERS).count("$.empty[*]", 0)
+                 .count("$.meta.total", 0)
+                 .exists("$.empty")
+                 .exists("$.meta")
+                 .everyItem("$.empty[*]", JsonNode::isNull, "null")
+                 .everyItem("$.meta", JsonNode::isEmpty, "empty")
+                 .verify();
+        of("[]").count("$[*]", 0).exists("$").verify();
+        of("{}").count("$.data", 0).exists("$").verify();
+    }
+
+    @Test
+    public void test_nestedArrays() {
+        of(USERS).count("$.matrix[*]", 3)
+                 .count("$.matrix[*][*]", 3)
+                 .count("$.data[*].tags[*]", 3)
+                 .everyItem("$.matrix[*][*]", JsonNode::isInt, "int")
+                 .anyItem("$.matrix[2][*]", item -> item.asInt() == 3, "3")
+                 .verify();
+    }
+
+    @Test
+    public void test_indexes() {
+        of(USERS).count("$.data[1]", 1)
+                 .count("$.data[3]", 0)
+                 .everyItem("$.data[1].id", id -> id.asInt() == 2, "2")
+                 .everyItem("$['data'][2]['email']", email -> email.asText().startsWith("emma"), "emma's")
+                 .verify();
+    }
+
+    @Test
+    public void test_root() {
+        of(USERS).count("$", 1)
+                 .everyItem("$", root -> root.path("data").size() == 3, "3 users")
+                 .verify();
+        of("42").everyItem("$", root -> root.asInt() == 42, "42").verify();
+    }
+
+    @Test
+    public void test_matchedPathIsAncestorOfAnother() {
+        of(USERS).count("$.data[*]", 3)
+                 .count("$.data[*].email", 3)
+                 .count("$.data", 1)
+                 .count("$.data[*].tags[*]", 3)
+                 .everyItem("$.data[*]", user -> user.has("email"), "user with email")
+                 .everyItem("$.data[*].email", email -> email.asText().endsWith("@reqres.in"), "@reqres.in email")
+                 .verify();
+    }
+
+    @Test
+    public void test_scalarItems() {
+        of("[1, \"two\", true, null, 5.5]").count("$[*]", 5)
+                                          .anyItem("$[*]", JsonNode::isNull, "null")
+                                          .everyItem("$[4]", JsonNode::isDouble, "double")
+                                          .verify();
+        of(USERS).everyItem("$.data[0].tags[*]", JsonNode::isTextual, "text").verify();
+    }
+
+    @Test
+    public void test_failureMessage() {
+        final var error = assertThrows(AssertionError.class,
+                                       () -> of(USERS).count("$.data[*]", 2)
+                                                      .everyItem("$.data[*].id", id -> id.asInt() < 2, "below 2")
+                                                      .exists("$.data[*].name")
+                                                      .count("$.page", 1)
+                                                      .verify());
+        final var message = error.getMessage();
+        assertTrue(message.contains("$.data[*]: expected 2 values, but found 3"), message);
+        assertTrue(message.contains("$.data[*].id: expected every item to be below 2, but 2 of 3 are not: [#1 2, #2 3]"),
+                   message);
+        assertTrue(message.contains("$.data[*].name: expected at least one value, but found 0"), message);
+        assertFalse(message.contains("$.page"), message);
+    }
+
+    @Test
+    public void test_unsupportedPath() {
+        assertThrows(IllegalArgumentException.class, () -> of(USERS).count("$.data[?(@.id > 1)]", 2));
+        assertThrows(IllegalArgumentException.class, () -> of(USERS).count("$.data[", 2));
+    }
+
+    private static JsonStreamAssertions of(String json) {
+        return JsonStreamAssertions.of(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+}
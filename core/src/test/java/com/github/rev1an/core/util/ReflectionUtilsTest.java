@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReflectionUtilsTest {
+
+    @Test
+    public void test_lambdaMetafactoryFactory() {
+        final var factory = ReflectionUtils.constructor(StringBuilder.class, String.class);
+
+        assertFalse(capturesHandle(factory), "generated factory calls constructor directly");
+        assertEquals("abc", factory.apply("abc").toString());
+        assertSame(factory, ReflectionUtils.constructor(StringBuilder.class, String.class));
+        assertThrows(NumberFormatException.class,
+                     () -> ReflectionUtils.constructor(Integer.class, String.class).apply("not a number"),
+                     "constructor exception is not wrapped");
+    }
+
+    @Test
+    public void test_methodHandleFallback() {
+        final var factory = ReflectionUtils.constructor(StringBuilder.class, int.class);
+
+        assertTrue(capturesHandle(factory), "primitive parameter falls back to method handle");
+        assertTrue(factory.apply(64).capacity() >= 64);
+        assertSame(factory, ReflectionUtils.constructor(StringBuilder.class, int.class));
+        assertThrows(IllegalArgumentException.class,
+                     () -> ReflectionUtils.constructor(ArrayList.class, int.class).apply(-1),
+                     "constructor exception is not wrapped");
+    }
+
+    @Test
+    public void test_missingConstructor() {
+        assertThrows(RuntimeException.class, () -> ReflectionUtils.constructor(String.class, Thread.class));
+    }
+
+    private static boolean capturesHandle(Function<?, ?> factory) {
+        return Arrays.stream(factory.getClass().getDeclaredFields())
+                     .map(Field::getType)
+                     .anyMatch(MethodHandle.class::equals);
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import com.github.rev1an.core.benchmark.fake.FakeWebDriver;
+import com.github.rev1an.core.driver.builder.LocalDriverBuilder;
+import com.github.rev1an.core.util.ReflectionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Reflective driver creation: cached {@link ReflectionUtils#findClass(String)} and {@link LocalDriverBuilder} with
+ * a generated constructor factory, with {@link FakeWebDriver} as a driver class.
+ *
+ * @author rev1an (Sergey Alekseev)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DriverBuilderBenchmark {
+
+    private static final String DRIVER_CLASS = FakeWebDriver.class.getName();
+
+    private MutableCapabilities capabilities;
+    private LocalDriverBuilder builder;
+
+    @Setup
+    public void setUp() {
+        this.capabilities = new MutableCapabilities();
+        this.builder = new LocalDriverBuilder(capabilities, DRIVER_CLASS);
+    }
+
+    @Benchmark
+    public Class<?> findClass() {
+        return ReflectionUtils.findClass(DRIVER_CLASS);
+    }
+
+    /**
+     * Constructor is resolved once, only instantiation is measured.
+     */
+    @Benchmark
+    public WebDriver build() {
+        return builder.build();
+    }
+
+    /**
+     * Class and constructor lookup, then instantiation.
+     */
+    @Benchmark
+    public WebDriver newBuilderAndBuild() {
+        return new LocalDriverBuilder(capabilities, DRIVER_CLASS).build();
+    }
+
+}
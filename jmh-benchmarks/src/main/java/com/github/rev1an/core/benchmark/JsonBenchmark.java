@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.github.rev1an.core.driver.capabilities.JsonFileCapabilityProvider;
+import com.github.rev1an.core.driver.capabilities.deserializer.ChromeOptionsDeserializer;
+import com.github.rev1an.core.json.JacksonHolder;
+import com.github.rev1an.core.json.JacksonMapper;
+import com.github.rev1an.core.json.TypeReferences;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.remote.AbstractDriverOptions;
+
+/**
+ * JSON hot paths: {@link JacksonMapper#asJsonNode(String)} and its {@code byte[]} overload, cached
+ * {@link JacksonMapper#readerFor(com.fasterxml.jackson.core.type.TypeReference)}, {@link JsonFileCapabilityProvider#get()}
+ * and capabilities traversal of {@code AbstractDriverOptionsDeserializer}.
+ *
+ * @author rev1an (Sergey Alekseev)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JsonBenchmark {
+
+    private static final String CAPABILITIES_FILE = "capabilities/default-chrome-mac.json";
+    private static final String CHROME_OPTIONS = """
+                                                 {
+                                                   "pageLoadStrategy": "eager",
+                                                   "goog:chromeOptions": {
+                                                     "args": ["window-size=1600,900", "enable-automation", "headless"],
+                                                     "prefs": {"download.default_directory": "/tmp", "intl.accept_languages": "en"}
+                                                   },
+                                                   "se:name": "benchmark"
+                                                 }""";
+
+    private String users;
+    private byte[] usersBytes;
+    private JsonFileCapabilityProvider provider;
+    private JacksonMapper optionsMapper;
+
+    @Setup
+    public void setUp() {
+        final var json = new StringBuilder("{\"page\":1,\"per_page\":100,\"data\":[");
+        for (int i = 0; i < 100; i++) {
+            json.append(i == 0 ? "" : ",")
+                .append("{\"id\":%d,\"email\":\"user%d@reqres.in\",\"first_name\":\"First%d\",\"last_name\":\"Last%d\"}"
+                                .formatted(i, i, i, i));
+        }
+        this.users = json.append("]}").toString();
+        this.usersBytes = users.getBytes(StandardCharsets.UTF_8);
+        this.provider = new JsonFileCapabilityProvider(CAPABILITIES_FILE);
+        this.optionsMapper = JacksonHolder.DEFAULT.copy();
+        this.optionsMapper.registerModule(new SimpleModule().addDeserializer(ChromeOptions.class,
+                                                                             new ChromeOptionsDeserializer()));
+    }
+
+    @Benchmark
+    public JsonNode asJsonNode() {
+        return JacksonHolder.DEFAULT.asJsonNode(users);
+    }
+
+    @Benchmark
+    public JsonNode asJsonNodeBytes() {
+        return JacksonHolder.DEFAULT.asJsonNode(usersBytes);
+    }
+
+    @Benchmark
+    public Map<String, Object> readValueTypeReference() throws Exception {
+        return JacksonHolder.DEFAULT.readerFor(TypeReferences.MAP_STRING_OBJECT).readValue(usersBytes);
+    }
+
+    @Benchmark
+    public AbstractDriverOptions<?> capabilityProviderGet() {
+        return provider.get();
+    }
+
+    @Benchmark
+    public ChromeOptions optionsDeserializerTraversal() throws Exception {
+        return optionsMapper.readValue(CHROME_OPTIONS, ChromeOptions.class);
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import com.github.rev1an.core.benchmark.fake.FakeExtensionContext;
+import com.github.rev1an.core.junit.extension.TrimmingExceptionHandler;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Stacktrace trimming of {@link TrimmingExceptionHandler}, on a synthetic stacktrace of {@code depth} frames
+ * with the test class frame in the middle.
+ * <p>
+ * Trimming mutates the exception, so original stacktrace is restored on every invocation,
+ * that cost is included.
+ *
+ * @author rev1an (Sergey Alekseev)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TrimmingExceptionHandlerBenchmark {
+
+    @Param({"64", "256"})
+    public int depth;
+
+    private final TrimmingExceptionHandler handler = new TrimmingExceptionHandler();
+    private ExtensionContext context;
+    private StackTraceElement[] stackTrace;
+    private AssertionError error;
+
+    @Setup
+    public void setUp() {
+        this.context = FakeExtensionContext.of(TrimmingExceptionHandlerBenchmark.class);
+        this.stackTrace = new StackTraceElement[depth];
+        for (int i = 0; i < depth; i++) {
+            final var className = i == depth / 2 ? TrimmingExceptionHandlerBenchmark.class.getName() :
+                                  "org.junit.platform.Frame" + i;
+            stackTrace[i] = new StackTraceElement(className, "method" + i, "Frame.java", i);
+        }
+        this.error = new AssertionError("expected");
+    }
+
+    @Benchmark
+    public Throwable trim() {
+        error.setStackTrace(stackTrace);
+        try {
+            handler.handleTestExecutionException(context, error);
+        } catch (Throwable e) {
+            return e;
+        }
+        throw new IllegalStateException("Exception is expected to be rethrown");
+    }
+
+}
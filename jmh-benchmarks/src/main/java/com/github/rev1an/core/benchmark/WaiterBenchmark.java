@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import com.github.rev1an.core.benchmark.fake.FakeWebDriver;
+import com.github.rev1an.core.driver.DriverTimeouts;
+import com.github.rev1an.core.driver.PollingStrategy;
+import com.github.rev1an.core.driver.Waiter;
+import com.github.rev1an.core.driver.WrappedDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+/**
+ * {@link Waiter} overhead on top of in-memory {@link FakeWebDriver}: creation of a wait, condition evaluation
+ * and polling loop, with zero sleep between polls.
+ *
+ * @author rev1an (Sergey Alekseev)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class WaiterBenchmark {
+
+    private static final By LOCATOR = By.cssSelector("#benchmark");
+
+    private Waiter waiter;
+
+    @Setup
+    public void setUp() {
+        final var timeouts = new DriverTimeouts(Duration.ofSeconds(30), Duration.ofSeconds(30), Duration.ofNanos(1),
+                                                PollingStrategy.fixed(Duration.ZERO));
+        this.waiter = new WrappedDriver(new FakeWebDriver(), timeouts).waiter();
+    }
+
+    /**
+     * Satisfied on the first poll, Selenium {@code ExpectedConditions} path.
+     */
+    @Benchmark
+    public WebElement presence() {
+        return waiter.forElementPresenceBy(LOCATOR);
+    }
+
+    /**
+     * Satisfied on the first poll, in-page query path.
+     */
+    @Benchmark
+    public WebElement visible() {
+        return waiter.forElementVisibleBy(LOCATOR);
+    }
+
+    /**
+     * Satisfied after {@code ticks + 1} polls, measures polling loop itself.
+     */
+    @Benchmark
+    public void polling(Ticks ticks) {
+        waiter.ticks(ticks.ticks);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Ticks {
+
+        @Param({"1", "10"})
+        public long ticks;
+
+    }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.benchmark.fake;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Minimal {@link ExtensionContext} for calling extensions outside of JUnit engine.
+ * <p>
+ * Only {@link ExtensionContext#getTestClass()} is supported, other methods throw
+ * {@link UnsupportedOperationException}.
+ *
+ * @author rev1an (Sergey Alekseev)
+ */
+public final class FakeExtensionContext {
+
+    private FakeExtensionContext() {
+    }
+
+    /**
+     * @param testClass class returned by {@link ExtensionContext#getTestClass()}
+     *
+     * @return new proxy instance
+     */
+    public static ExtensionContext of(Class<?> testClass) {
+        return (ExtensionContext) Proxy.newProxyInstance(
+                ExtensionContext.class.getClassLoader(),
+                new Class<?>[]{ExtensionContext.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getTestClass" -> Optional.of(testClass);
+                    case "toString" -> "FakeExtensionContext[%s]".formatted(testClass.getName());
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.benchmark.fake;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * In-memory {@link WebDriver}: every lookup succeeds immediately, no browser, no wire.
+ * <p>
+ * Benchmarks on top of it measure the framework's own overhead only.
+ *
+ * @author rev1an (Sergey Alekseev)
+ */
+public class FakeWebDriver implements WebDriver,
+                                      JavascriptExecutor,
+                                      TakesScreenshot {
+
+    private final Capabilities capabilities;
+    private final FakeWebElement element = new FakeWebElement();
+
+    public FakeWebDriver() {
+        this(new MutableCapabilities());
+    }
+
+    /**
+     * Constructor with {@link Capabilities} implementation as a parameter type, as required by
+     * {@link com.github.rev1an.core.driver.builder.LocalDriverBuilder}.
+     */
+    public FakeWebDriver(MutableCapabilities capabilities) {
+        this.capabilities = capabilities;
+    }
+
+    public Capabilities getCapabilities() {
+        return capabilities;
+    }
+
+    @Override
+    public void get(String url) {
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return "about:blank";
+    }
+
+    @Override
+    public String getTitle() {
+        return "";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return List.of(element);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return element;
+    }
+
+    @Override
+    public String getPageSource() {
+        return "<html></html>";
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void quit() {
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        return new LinkedHashSet<>(List.of("fake"));
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return "fake";
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Navigation navigate() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Options manage() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Answers in-page element queries of {@link com.github.rev1an.core.driver.Waiter}: the 4th argument
+     * is a query mode, see {@code ElementQueries}.
+     */
+    @Override
+    public Object executeScript(String script, Object... args) {
+        if (args.length < 4) {
+            return "complete";
+        }
+        return switch (String.valueOf(args[3])) {
+            case "absent", "hidden" -> true;
+            case "visible" -> element;
+            default -> List.of(element);
+        };
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        return null;
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        return target.convertFromBase64Png("");
+    }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.junit.restassured.assertion;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import com.github.rev1an.core.json.JacksonHolder;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+
+/**
+ * JSON schemas from classpath, loaded and compiled once per JVM and shared by all tests.
+ * <p>
+ * {@code JsonSchemaValidator.matchesJsonSchemaInClasspath(...)} loads the schema and builds a new
+ * {@link JsonSchemaFactory} on every assertion. Here a single factory is used, which caches validators it builds,
+ * and {@link JsonSchema}'s are kept by classpath location; both are immutable and thread-safe. Schemas are loaded by
+ * URL, so relative {@code $ref}'s still work:
+ * <pre>
+ * .body(JsonSchemaRegistry.matchesSchema("schema/reqres/in/test_listUsers.json"))
+ * </pre>
+ *
+ * @author rev1an (Sergey Alekseev)
+ * @see com.github.rev1an.core.junit.restassured.extension.JsonSchemaPreloader
+ */
+public final class JsonSchemaRegistry {
+
+    private static final JsonSchemaFactory FACTORY = JsonSchemaFactory.byDefault();
+    private static final Map<String, JsonSchema> SCHEMAS = new ConcurrentHashMap<>();
+
+    private JsonSchemaRegistry() {
+    }
+
+    /**
+     * @param path classpath location, i.e. {@code schema/reqres/in/test_listUsers.json}
+     *
+     * @return Hamcrest matcher of JSON {@link String}, i.e. RestAssured response body
+     */
+    public static Matcher<String> matchesSchema(String path) {
+        return new SchemaMatcher(path, schema(path));
+    }
+
+    /**
+     * @param path classpath location
+     *
+     * @return compiled schema, shared by all callers
+     */
+    public static JsonSchema schema(String path) {
+        return SCHEMAS.computeIfAbsent(path.startsWith("/") ? path.substring(1) : path, JsonSchemaRegistry::load);
+    }
+
+    /**
+     * Load and compile all {@code *.json} schemas under a classpath directory, from folders and jars.
+     *
+     * @param root classpath directory, i.e. {@code schema}
+     *
+     * @return number of schemas
+     */
+    public static int preload(String root) {
+        final var paths = new TreeSet<String>();
+        try {
+            final var urls = Thread.currentThread().getContextClassLoader().getResources(root);
+            while (urls.hasMoreElements()) {
+                paths.addAll(list(root, urls.nextElement()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list JSON schemas in %s".formatted(root), e);
+        }
+        for (final var path : paths) {
+            // root validators are built on first validation
+            schema(path).validateUnchecked(NullNode.getInstance());
+        }
+        return paths.size();
+    }
+
+    private static Set<String> list(String root, URL url) throws IOException {
+        final var paths = new TreeSet<String>();
+        if ("jar".equals(url.getProtocol())) {
+            final var connection = (JarURLConnection) url.openConnection();
+            connection.setUseCaches(false);
+            try (var jar = connection.getJarFile()) {
+                jar.stream()
+                   .filter(entry -> entry.getName().startsWith(root + "/") && entry.getName().endsWith(".json"))
+                   .forEach(entry -> paths.add(entry.getName()));
+            }
+        } else if ("file".equals(url.getProtocol())) {
+            final Path directory;
+            try {
+                directory = Path.of(url.toURI());
+            } catch (URISyntaxException e) {
+                throw new IllegalArgumentException(e);
+            }
+            try (var files = Files.walk(directory)) {
+                files.filter(file -> file.toString().endsWith(".json"))
+                     .forEach(file -> paths.add(root + "/" + directory.relativize(file).toString().replace('\\', '/')));
+            }
+        }
+        return paths;
+    }
+
+    private static JsonSchema load(String path) {
+        final var url = Thread.currentThread().getContextClassLoader().getResource(path);
+        if (url == null) {
+            throw new IllegalArgumentException("JSON schema %s not found in classpath".formatted(path));
+        }
+        try {
+            return FACTORY.getJsonSchema(url.toURI().toString());
+        } catch (ProcessingException | URISyntaxException e) {
+            throw new IllegalArgumentException("Cannot load JSON schema %s".formatted(path), e);
+        }
+    }
+
+    /**
+     * Single-use, as mismatch description needs report of the last validation.
+     */
+    private static final class SchemaMatcher extends TypeSafeMatcher<String> {
+
+        private final String path;
+        private final JsonSchema schema;
+        private ProcessingReport report;
+
+        private SchemaMatcher(String path, JsonSchema schema) {
+            this.path = path;
+            this.schema = schema;
+        }
+
+        @Override
+        protected boolean matchesSafely(String json) {
+            final JsonNode instance = JacksonHolder.DEFAULT.asJsonNode(json);
+            report = schema.validateUnchecked(instance, true);
+            return report.isSuccess();
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("JSON matching schema ").appendValue(path);
+        }
+
+        @Override
+        protected void describeMismatchSafely(String json, Description mismatchDescription) {
+            mismatchDescription.appendText("has validation errors:").appendText(System.lineSeparator())
+                               .appendText(String.valueOf(report));
+        }
+
+    }
+
+}
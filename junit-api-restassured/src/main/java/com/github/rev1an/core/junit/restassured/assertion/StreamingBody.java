@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.junit.restassured.assertion;
+
+import com.github.rev1an.core.json.JsonStreamAssertions;
+import io.restassured.response.ResponseBodyExtractionOptions;
+
+/**
+ * {@link JsonStreamAssertions} on RestAssured response body, for large payloads, that don't fit GPath or
+ * JSON schema validation of a fully parsed body.
+ * <p>
+ * Body is streamed only if it wasn't read yet, i.e. by {@code body(...)} matchers or logging filters; otherwise it's
+ * still parsed in a single pass without building a tree.
+ *
+ * @author rev1an (Sergey Alekseev)
+ */
+public final class StreamingBody {
+
+    private StreamingBody() {
+    }
+
+    /**
+     * @param response {@link io.restassured.response.Response} or {@link io.restassured.response.ExtractableResponse}
+     */
+    public static JsonStreamAssertions streamingBody(ResponseBodyExtractionOptions response) {
+        return JsonStreamAssertions.of(response.asInputStream());
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.junit.restassured.extension;
+
+import com.github.rev1an.core.junit.restassured.assertion.JsonSchemaRegistry;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+
+/**
+ * Compiles all JSON schemas of {@link JsonSchemaRegistry} before the first test class, so the first assertions
+ * of a parallel run don't pay for it, and a broken schema fails fast.
+ * <p>
+ * Disabled by default, configured with JUnit configuration parameters:
+ * <ul>
+ *     <li>{@code junit5.restassured.schema.preload} - {@code true} to enable</li>
+ *     <li>{@code junit5.restassured.schema.root} - classpath directory, {@code schema} by default</li>
+ * </ul>
+ *
+ * @author rev1an (Sergey Alekseev)
+ */
+public class JsonSchemaPreloader implements BeforeAllCallback {
+
+    private static final Namespace NAMESPACE = Namespace.create(JsonSchemaPreloader.class);
+    private static final String PRELOAD = "junit5.restassured.schema.preload";
+    private static final String ROOT = "junit5.restassured.schema.root";
+    private static final Logger LOG = LogManager.getLogger(JsonSchemaPreloader.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        if (!context.getConfigurationParameter(PRELOAD, Boolean::parseBoolean).orElse(false)) {
+            return;
+        }
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(ROOT, ignore -> {
+            final var root = context.getConfigurationParameter(ROOT).orElse("schema");
+            final var start = System.nanoTime();
+            final var count = JsonSchemaRegistry.preload(root);
+            LOG.info("Compiled {} JSON schemas from {} in {} ms", count, root, (System.nanoTime() - start) / 1_000_000);
+            return count;
+        });
+    }
+
+}
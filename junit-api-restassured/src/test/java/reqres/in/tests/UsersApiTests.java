@@ -8,13 +8,17 @@ package reqres.in.tests;
 
 import com.github.rev1an.core.json.JacksonMapper;
 import com.github.rev1an.core.junit.annotation.HttpConfig;
-import io.restassured.module.jsv.JsonSchemaValidator;
+import com.github.rev1an.core.junit.annotation.UsesHttp;
 import io.restassured.specification.RequestSpecification;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledIf;
 
+import static com.github.rev1an.core.junit.restassured.assertion.JsonSchemaRegistry.matchesSchema;
+import static com.github.rev1an.core.junit.restassured.assertion.StreamingBody.streamingBody;
+
+@UsesHttp
 @HttpConfig(basePath = "https://reqres.in/")
 public class UsersApiTests {
 
@@ -62,7 +66,20 @@ public class UsersApiTests {
                .statusCode(200)
                .body("page", Matchers.is(1))
                .body("data.collect { it.avatar }", Matchers.everyItem(Matchers.matchesRegex("^https://reqres.in/img/faces/.*$"))) // GPath
-               .body(JsonSchemaValidator.matchesJsonSchemaInClasspath("schema/reqres/in/test_listUsers.json"));
+               .body(matchesSchema("schema/reqres/in/test_listUsers.json"));
+    }
+
+    @Test
+    public void test_listUsers_streaming(RequestSpecification request) {
+        var response = request.get("/api/users?page=1");
+        response.then()
+                .statusCode(200);
+        streamingBody(response).count("$.page", 1)
+                               .exists("$.data[*]")
+                               .everyItem("$.data[*].avatar",
+                                          avatar -> avatar.asText().matches("^https://reqres.in/img/faces/.*$"),
+                                          "reqres.in avatar")
+                               .verify();
     }
 
     private boolean postNotCreated() {
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.junit.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import com.github.rev1an.core.junit.extension.ResourceCapacityExtension;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Declares that a test class or method occupies one unit of a limited resource, i.e. a browser.
+ * <p>
+ * Capacity of each resource is set with {@code junit.resource.<name>.capacity} configuration parameter,
+ * unlimited if absent. A unit is held by each test method from {@code @BeforeEach} to {@code @AfterEach},
+ * a class-level annotation applies to every test method of the class, including {@code @Nested} ones.
+ *
+ * @author rev1an (Sergey Alekseev)
+ * @see ResourceCapacityExtension
+ * @see UsesBrowser
+ * @see UsesHttp
+ */
+@Target({ElementType.TYPE, ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@Repeatable(UsesResources.class)
+@ExtendWith(ResourceCapacityExtension.class)
+public @interface UsesResource {
+
+    /**
+     * @return resource name
+     */
+    String value();
+
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.junit.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import com.github.rev1an.core.junit.extension.ResourceCapacityExtension;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Container for repeated {@link UsesResource}.
+ *
+ * @author rev1an (Sergey Alekseev)
+ */
+@Target({ElementType.TYPE, ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@ExtendWith(ResourceCapacityExtension.class)
+public @interface UsesResources {
+
+    UsesResource[] value();
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.junit.engine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.github.rev1an.core.json.JacksonHolder;
+
+/**
+ * Test class durations from previous runs, kept in a local JSON file: class name to milliseconds.
+ * <p>
+ * Durations are recorded by {@link DurationRecordingListener}, and used by {@link LongestFirstClassOrderer}
+ * and {@link DurationShardingFilter}.
+ * A new duration is averaged with the recorded one, so a single slow run doesn't reshuffle everything.
+ * Several JVMs (i.e. Gradle forks) may save the same file: it's locked, re-read and merged.
+ * <p>
+ * Configured with JUnit configuration parameters:
+ * <ul>
+ *     <li>{@code junit.duration.history.file} - history file, i.e. {@code build/junit-durations.json};
+ *     nothing is recorded if absent</li>
+ *     <li>{@code junit.duration.history.default} - estimate for classes without history, i.e. {@code PT10S};
+ *     mean of known durations if absent</li>
+ * </ul>
+ *
+ * @author rev1an (Sergey Alekseev)
+ */
+public final class DurationHistory {
+
+    public static final String FILE = "junit.duration.history.file";
+    public static final String DEFAULT = "junit.duration.history.default";
+
+    private static final TypeReference<Map<String, Long>> TYPE = new TypeReference<>() {
+    };
+    private static final Map<Path, DurationHistory> CACHE = new ConcurrentHashMap<>();
+    private static final double NEW_WEIGHT = 0.5;
+
+    private final Path file;
+    private final Map<String, Long> durations = new ConcurrentHashMap<>();
+    private final Map<String, Long> recorded = new ConcurrentHashMap<>();
+
+    private DurationHistory(Path file) {
+        this.file = file;
+        durations.putAll(read(file));
+    }
+
+    /**
+     * @param parameters JUnit configuration parameters
+     *
+     * @return history shared within JVM, empty if {@code junit.duration.history.file} is not set
+     */
+    public static Optional<DurationHistory> from(Function<String, Optional<String>> parameters) {
+        return parameters.apply(FILE)
+                         .map(path -> Path.of(path).toAbsolutePath().normalize())
+                         .map(path -> CACHE.computeIfAbsent(path, DurationHistory::new));
+    }
+
+    /**
+     * @param parameters JUnit configuration parameters
+     *
+     * @return estimate function: recorded duration, or {@code junit.duration.history.default},
+     * or mean of known durations; zero for all classes if history is not configured
+     */
+    public static Function<String, Duration> estimator(Function<String, Optional<String>> parameters) {
+        final var history = from(parameters);
+        if (history.isEmpty()) {
+            return ignore -> Duration.ZERO;
+        }
+        final var fallback = parameters.apply(DEFAULT)
+                                       .map(Duration::parse)
+                                       .orElseGet(history.get()::mean);
+        return className -> history.get().get(className).orElse(fallback);
+    }
+
+    /**
+     * @param className test class name
+     *
+     * @return recorded duration, empty if class has no history
+     */
+    public Optional<Duration> get(String className) {
+        return Optional.ofNullable(durations.get(className)).map(Duration::ofMillis);
+    }
+
+    /**
+     * @return mean of known durations, zero if there are none
+     */
+    public Duration mean() {
+        return Duration.ofMillis((long) durations.values().stream().mapToLong(Long::longValue).average().orElse(0));
+    }
+
+    /**
+     * @param className test class name
+     * @param duration  duration of current run
+     */
+    public void record(String className, Duration duration) {
+        recorded.put(className, duration.toMillis());
+    }
+
+    /**
+     * Merge durations recorded in this JVM into the file.
+     */
+    public synchronized void save() {
+        if (recorded.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            final var lockFile = file.resolveSibling(file.getFileName() + ".lock");
+            try (var channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                final var lock = channel.lock(); // other forks merge their durations into the same file
+                try {
+                    final var merged = new TreeMap<>(read(file));
+                    recorded.forEach((className, millis) -> merged.merge(
+                            className, millis, (old, now) -> Math.round(NEW_WEIGHT * now + (1 - NEW_WEIGHT) * old)));
+                    final var temp = file.resolveSibling(file.getFileName() + ".tmp");
+                    JacksonHolder.DEFAULT.writerWithDefaultPrettyPrinter().writeValue(temp.toFile(), merged);
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    durations.putAll(merged);
+                    recorded.clear();
+                } finally {
+                    lock.release();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot save test durations to %s".formatted(file), e);
+        }
+    }
+
+    private static Map<String, Long> read(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return Map.of();
+        }
+        try {
+            return JacksonHolder.DEFAULT.readValue(file.toFile(), TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read test durations from %s".formatted(file), e);
+        }
+    }
+
+}
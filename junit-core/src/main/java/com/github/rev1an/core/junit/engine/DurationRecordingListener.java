@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.junit.engine;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Records wall time of each test class into {@link DurationHistory}, when {@code junit.duration.history.file}
+ * is set. Registered automatically by JUnit launcher.
+ *
+ * @author rev1an (Sergey Alekseev)
+ * @see DurationHistory
+ */
+public final class DurationRecordingListener implements TestExecutionListener {
+
+    private final Map<String, Long> starts = new ConcurrentHashMap<>();
+
+    private volatile Optional<DurationHistory> history = Optional.empty();
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        history = DurationHistory.from(testPlan.getConfigurationParameters()::get);
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        if (history.isPresent()) {
+            className(testIdentifier).ifPresent(className -> starts.put(testIdentifier.getUniqueId(),
+                                                                        System.nanoTime()));
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        final var start = starts.remove(testIdentifier.getUniqueId());
+        if (start != null) {
+            final var elapsed = Duration.ofNanos(System.nanoTime() - start);
+            className(testIdentifier).ifPresent(className -> history.get().record(className, elapsed));
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        history.ifPresent(DurationHistory::save);
+    }
+
+    private static Optional<String> className(TestIdentifier testIdentifier) {
+        return testIdentifier.getSource()
+                             .filter(ClassSource.class::isInstance)
+                             .map(source -> ((ClassSource) source).getClassName());
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.junit.engine;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+/**
+ * Runs only a part (shard) of test classes, so a test run may be split across CI nodes or forks, that finish
+ * at roughly the same time.
+ * <p>
+ * Top level test classes are bin-packed by their durations from {@link DurationHistory}: the longest first,
+ * each to the shard with the least total so far. Classes without history are estimated with
+ * {@code junit.duration.history.default} or the mean; with no history at all they are dealt round-robin in name
+ * order. Assignment depends only on discovered classes and the history file, so every node must discover the same
+ * classes and use the same file (i.e. restored from CI cache).
+ * <p>
+ * Registered automatically by JUnit launcher, configured with JUnit configuration parameters:
+ * <ul>
+ *     <li>{@code junit.shard.total} - number of shards, everything runs if absent</li>
+ *     <li>{@code junit.shard.index} - shard to run, from {@code 0} to {@code total - 1}</li>
+ * </ul>
+ * Parameters are taken from Jupiter engine configuration, and from system properties for other engines.
+ *
+ * @author rev1an (Sergey Alekseev)
+ * @see DurationHistory
+ */
+public final class DurationShardingFilter implements PostDiscoveryFilter {
+
+    private static final String INDEX = "junit.shard.index";
+    private static final String TOTAL = "junit.shard.total";
+    private static final Logger LOG = LogManager.getLogger(DurationShardingFilter.class);
+
+    private final Map<UniqueId, Map<String, Integer>> shardsByEngine = new ConcurrentHashMap<>();
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        final var testClass = topLevelClass(descriptor);
+        if (testClass.isEmpty()) {
+            return FilterResult.included("not in a test class");
+        }
+        final var engine = engine(descriptor);
+        final var parameters = parameters(engine);
+        final var total = parameters.apply(TOTAL).map(Integer::parseInt).orElse(1);
+        if (total <= 1) {
+            return FilterResult.included("not sharded");
+        }
+        final var index = parameters.apply(INDEX)
+                                    .map(Integer::parseInt)
+                                    .orElseThrow(() -> new IllegalArgumentException(
+                                            "%s is required when %s is set".formatted(INDEX, TOTAL)));
+        if (index < 0 || index >= total) {
+            throw new IllegalArgumentException("%s=%d is out of [0, %d)".formatted(INDEX, index, total));
+        }
+        final var shard = shardsByEngine.computeIfAbsent(engine.getUniqueId(),
+                                                         ignore -> assign(engine, parameters, total, index))
+                                        .get(testClass.get());
+        return FilterResult.includedIf(shard == index,
+                                       () -> "in shard %d".formatted(index),
+                                       () -> "in shard %d of %d".formatted(shard, total));
+    }
+
+    /**
+     * Longest processing time first: sorted by estimate, each class goes to the least loaded shard; ties go to
+     * the shard with fewer classes, then to the lower index.
+     */
+    private static Map<String, Integer> assign(TestDescriptor engine, Function<String, Optional<String>> parameters,
+                                               int total, int index) {
+        final var estimator = DurationHistory.estimator(parameters);
+        final var names = new TreeSet<String>();
+        engine.accept(descriptor -> topLevelClass(descriptor).ifPresent(names::add));
+        final var classes = new ArrayList<>(names);
+        classes.sort(Comparator.comparing(estimator).reversed().thenComparing(Comparator.naturalOrder()));
+
+        final var loads = new Duration[total];
+        final var counts = new int[total];
+        Arrays.fill(loads, Duration.ZERO);
+        final var shards = new HashMap<String, Integer>();
+        for (final var name : classes) {
+            var target = 0;
+            for (var shard = 1; shard < total; shard++) {
+                final var compared = loads[shard].compareTo(loads[target]);
+                if (compared < 0 || compared == 0 && counts[shard] < counts[target]) {
+                    target = shard;
+                }
+            }
+            loads[target] = loads[target].plus(estimator.apply(name));
+            counts[target]++;
+            shards.put(name, target);
+        }
+        LOG.info("Shard {} of {} in {}: {} of {} test classes, estimated {}", index, total, engine.getDisplayName(),
+                 counts[index], classes.size(), List.of(loads));
+        return shards;
+    }
+
+    /**
+     * @return name of outermost test class containing descriptor, nested classes are sharded with it
+     */
+    private static Optional<String> topLevelClass(TestDescriptor descriptor) {
+        Optional<String> name = Optional.empty();
+        for (var current = Optional.of(descriptor); current.isPresent(); current = current.get().getParent()) {
+            final var source = current.get().getSource();
+            if (source.isPresent() && source.get() instanceof ClassSource classSource) {
+                name = Optional.of(classSource.getClassName());
+            }
+        }
+        return name;
+    }
+
+    private static TestDescriptor engine(TestDescriptor descriptor) {
+        var current = descriptor;
+        while (current.getParent().isPresent()) {
+            current = current.getParent().get();
+        }
+        return current;
+    }
+
+    private static Function<String, Optional<String>> parameters(TestDescriptor engine) {
+        return JupiterInternals.configurationParameters(engine)
+                               .orElse(key -> Optional.ofNullable(System.getProperty(key)));
+    }
+
+}
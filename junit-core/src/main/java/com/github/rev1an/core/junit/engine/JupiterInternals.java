@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.junit.engine;
+
+import java.util.Optional;
+import java.util.function.Function;
+import org.junit.jupiter.engine.JupiterTestEngine;
+import org.junit.jupiter.engine.config.CachingJupiterConfiguration;
+import org.junit.jupiter.engine.config.DefaultJupiterConfiguration;
+import org.junit.jupiter.engine.descriptor.JupiterEngineDescriptor;
+import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
+import org.junit.jupiter.engine.support.JupiterThrowableCollectorFactory;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.hierarchical.EngineExecutionContext;
+import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
+
+/**
+ * The only place that touches {@code @API(status = INTERNAL)} classes of {@code junit-jupiter-engine}.
+ * <p>
+ * Written against Jupiter <em>5.11.0</em>: these classes may change in any release, so after upgrading Jupiter
+ * check this class first, the rest of the package uses only public Platform API.
+ *
+ * @author rev1an (Sergey Alekseev)
+ */
+final class JupiterInternals {
+
+    private JupiterInternals() {
+    }
+
+    /**
+     * @return Jupiter engine descriptor without any tests
+     */
+    static TestDescriptor emptyDescriptor(UniqueId uniqueId, ConfigurationParameters parameters) {
+        return new JupiterEngineDescriptor(uniqueId,
+                                           new CachingJupiterConfiguration(new DefaultJupiterConfiguration(parameters)));
+    }
+
+    /**
+     * @return Jupiter tests, discovered by Jupiter itself under given engine id
+     */
+    static TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+        return new JupiterTestEngine().discover(discoveryRequest, uniqueId);
+    }
+
+    static ThrowableCollector.Factory throwableCollectorFactory() {
+        return JupiterThrowableCollectorFactory::createThrowableCollector;
+    }
+
+    /**
+     * @param request with root descriptor created by {@link #discover(EngineDiscoveryRequest, UniqueId)}
+     *
+     * @return root context, which nodes of Jupiter descriptors expect
+     */
+    static EngineExecutionContext executionContext(ExecutionRequest request) {
+        final var root = (JupiterEngineDescriptor) request.getRootTestDescriptor();
+        return new JupiterEngineExecutionContext(request.getEngineExecutionListener(), root.getConfiguration());
+    }
+
+    /**
+     * @param engine root descriptor of any engine
+     *
+     * @return configuration parameters of a Jupiter engine, empty for other engines
+     */
+    static Optional<Function<String, Optional<String>>> configurationParameters(TestDescriptor engine) {
+        if (engine instanceof JupiterEngineDescriptor jupiter) {
+            return Optional.of(jupiter.getConfiguration()::getRawConfigurationParameter);
+        }
+        return Optional.empty();
+    }
+
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.junit.engine;
+
+import java.time.Duration;
+import java.util.Comparator;
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+
+/**
+ * Orders test classes by recorded duration, the longest first (LPT heuristic), so a long class doesn't start last
+ * and dominate total time of a parallel run. Classes with equal estimates are ordered by name.
+ * <p>
+ * To enable, pass properties:
+ * <pre>
+ * junit.jupiter.testclass.order.default=com.github.rev1an.core.junit.engine.LongestFirstClassOrderer
+ * junit.duration.history.file=build/junit-durations.json
+ * </pre>
+ *
+ * @author rev1an (Sergey Alekseev)
+ * @see DurationHistory
+ */
+public final class LongestFirstClassOrderer implements ClassOrderer {
+
+    @Override
+    public void orderClasses(ClassOrdererContext context) {
+        final var estimator = DurationHistory.estimator(context::getConfigurationParameter);
+        context.getClassDescriptors()
+               .sort(Comparator.<ClassDescriptor, Duration>comparing(
+                                       descriptor -> estimator.apply(descriptor.getTestClass().getName()))
+                               .reversed()
+                               .thenComparing(descriptor -> descriptor.getTestClass().getName()));
+    }
+
+}
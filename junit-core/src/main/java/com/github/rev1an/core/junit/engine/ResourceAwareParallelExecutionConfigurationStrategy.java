@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.junit.engine;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.OptionalLong;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy;
+
+/**
+ * Sizes parallelism by both available CPUs and free physical memory, so the same configuration neither oversubscribes
+ * a small CI container nor under-uses a big build box.
+ * <p>
+ * Number of workers is the lowest of:
+ * <ul>
+ *     <li>{@code cpu.factor} workers per available CPU (container CPU quota is respected by JVM),</li>
+ *     <li>available memory minus {@code memory.reserve}, divided by {@code worker.memory} - the cost of a single
+ *     worker, i.e. about {@code 400m} for a local Chrome,</li>
+ *     <li>{@code max}, if set.</li>
+ * </ul>
+ * Available memory is {@code MemAvailable} from {@code /proc/meminfo}, narrowed by cgroup (v2 or v1) memory limit
+ * minus current usage. If neither is readable, JVM view of free physical memory is used.
+ * Pool is not grown beyond the memory bound to compensate blocked workers.
+ * <p>
+ * To enable, pass properties:
+ * <pre>
+ * junit.jupiter.execution.parallel.config.strategy=custom
+ * junit.jupiter.execution.parallel.config.custom.class=com.github.rev1an.core.junit.engine.ResourceAwareParallelExecutionConfigurationStrategy
+ * junit.jupiter.execution.parallel.config.resource-aware.worker.memory=400m
+ * </pre>
+ * Optional properties, with {@code junit.jupiter.execution.parallel.config.resource-aware.} prefix:
+ * {@code cpu.factor} (default {@code 1}), {@code worker.memory} (default {@code 0} - memory is not considered),
+ * {@code memory.reserve} (default {@code 0}), {@code max} (default unlimited).
+ *
+ * @author rev1an (Sergey Alekseev)
+ * @see ParallelExecutionConfigurationStrategy
+ */
+public class ResourceAwareParallelExecutionConfigurationStrategy extends LoggedParallelExecutionConfigurationStrategy {
+
+    private static final String PREFIX = "resource-aware.";
+    private static final int KEEP_ALIVE_SECONDS = 30;
+    private static final int MAX_COMPENSATION = 256;
+    private static final long UNLIMITED = Long.MAX_VALUE / 2; // cgroup v1 reports "no limit" as a huge number
+
+    @Override
+    public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
+        final var cpuFactor = configurationParameters.get(PREFIX + "cpu.factor", Double::parseDouble)
+                                                     .orElse(1.0);
+        final var workerMemory = configurationParameters.get(PREFIX + "worker.memory", Memory::parse)
+                                                        .orElse(0L);
+        final var reserve = configurationParameters.get(PREFIX + "memory.reserve", Memory::parse)
+                                                   .orElse(0L);
+        final var max = configurationParameters.get(PREFIX + "max", Integer::parseInt)
+                                               .orElse(Integer.MAX_VALUE);
+
+        final var cpus = Runtime.getRuntime().availableProcessors();
+        final var cpuBound = Math.max(1, (int) (cpus * cpuFactor));
+        final var available = workerMemory > 0 ? Memory.available() : -1;
+        final var memoryBound = workerMemory > 0 ?
+                                (int) Math.max(1, Math.min(Integer.MAX_VALUE, (available - reserve) / workerMemory)) :
+                                Integer.MAX_VALUE;
+        final var parallelism = Math.max(1, Math.min(Math.min(cpuBound, memoryBound), max));
+        final var maxPoolSize = (int) Math.min((long) parallelism + MAX_COMPENSATION, Math.min(memoryBound, max));
+
+        LogManager.getLogger(getClass())
+                  .info("CPUs: {}, bound: {}; available memory: {} MB, bound: {}",
+                        cpus, cpuBound,
+                        available < 0 ? "n/a" : available / (1024 * 1024),
+                        memoryBound == Integer.MAX_VALUE ? "none" : memoryBound);
+        return log(new Configuration(parallelism, parallelism, Math.max(parallelism, maxPoolSize), parallelism,
+                                     KEEP_ALIVE_SECONDS));
+    }
+
+    /**
+     * Physical memory as seen from inside the container.
+     */
+    private static final class Memory {
+
+        private Memory() {
+        }
+
+        /**
+         * @param value number of bytes, optionally with {@code k}, {@code m} or {@code g} suffix
+         *
+         * @return number of bytes
+         */
+        static long parse(String value) {
+            final var normalized = value.trim().toLowerCase(Locale.ROOT).replaceAll("b$", "");
+            final var unit = switch (normalized.charAt(normalized.length() - 1)) {
+                case 'k' -> 1024L;
+                case 'm' -> 1024L * 1024;
+                case 'g' -> 1024L * 1024 * 1024;
+                default -> 1L;
+            };
+            final var number = unit == 1 ? normalized : normalized.substring(0, normalized.length() - 1);
+            return Long.parseLong(number.trim()) * unit;
+        }
+
+        /**
+         * @return available memory in bytes
+         */
+        static long available() {
+            final var host = memInfo("MemAvailable");
+            final var container = Stream.of(cgroup("memory.max", "memory.current"),
+                                            cgroup("memory/memory.limit_in_bytes", "memory/memory.usage_in_bytes"))
+                                        .filter(OptionalLong::isPresent)
+                                        .mapToLong(OptionalLong::getAsLong)
+                                        .findFirst();
+            if (host.isPresent() && container.isPresent()) {
+                return Math.min(host.getAsLong(), container.getAsLong());
+            }
+            if (host.isPresent() || container.isPresent()) {
+                return host.isPresent() ? host.getAsLong() : container.getAsLong();
+            }
+            final var os = ManagementFactory.getOperatingSystemMXBean();
+            return os instanceof com.sun.management.OperatingSystemMXBean bean ? bean.getFreeMemorySize() : 0;
+        }
+
+        private static OptionalLong memInfo(String key) {
+            try (var lines = Files.lines(Path.of("/proc/meminfo"))) {
+                return lines.filter(line -> line.startsWith(key + ":"))
+                            .map(line -> line.substring(key.length() + 1).trim().split("\\s+"))
+                            .mapToLong(parts -> Long.parseLong(parts[0]) * (parts.length > 1 ? 1024 : 1)) // kB
+                            .findFirst();
+            } catch (IOException | RuntimeException e) {
+                return OptionalLong.empty();
+            }
+        }
+
+        private static OptionalLong cgroup(String limitFile, String usageFile) {
+            final var limit = read(Path.of("/sys/fs/cgroup", limitFile));
+            final var usage = read(Path.of("/sys/fs/cgroup", usageFile));
+            if (limit.isEmpty() || limit.getAsLong() >= UNLIMITED) {
+                return OptionalLong.empty();
+            }
+            return OptionalLong.of(Math.max(0, limit.getAsLong() - usage.orElse(0)));
+        }
+
+        private static OptionalLong read(Path file) {
+            try {
+                final var value = Files.readString(file).trim();
+                return value.equals("max") ? OptionalLong.of(Long.MAX_VALUE) : OptionalLong.of(Long.parseLong(value));
+            } catch (IOException | RuntimeException e) {
+                return OptionalLong.empty();
+            }
+        }
+
+    }
+
+    private record Configuration(int parallelism,
+                                 int minimumRunnable,
+                                 int maxPoolSize,
+                                 int corePoolSize,
+                                 int keepAliveSeconds) implements ParallelExecutionConfiguration {
+
+        @Override
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        @Override
+        public int getMinimumRunnable() {
+            return minimumRunnable;
+        }
+
+        @Override
+        public int getMaxPoolSize() {
+            return maxPoolSize;
+        }
+
+        @Override
+        public int getCorePoolSize() {
+            return corePoolSize;
+        }
+
+        @Override
+        public int getKeepAliveSeconds() {
+            return keepAliveSeconds;
+        }
+
+        /**
+         * Same as JUnit default strategies: keep running on a saturated pool instead of failing.
+         */
+        @Override
+        public Predicate<? super ForkJoinPool> getSaturatePredicate() {
+            return pool -> true;
+        }
+
+    }
+
+}
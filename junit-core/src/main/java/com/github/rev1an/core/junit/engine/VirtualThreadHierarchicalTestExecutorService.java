@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.junit.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import com.github.rev1an.core.util.VirtualThreads;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+
+/**
+ * {@link HierarchicalTestExecutorService} that runs each concurrent task on its own virtual thread, so thousands
+ * of blocking I/O tests may run at once without thread pool tuning.
+ * <p>
+ * Concurrency is capped by a number of permits. A task holds a permit only while it runs its own code: a container
+ * returns it while waiting for its children, so the cap effectively applies to test leaves and can't deadlock.
+ * Resource locks ({@link org.junit.jupiter.api.parallel.ResourceLock}) are acquired before permits for the same
+ * reason. Tasks with {@link ExecutionMode#SAME_THREAD} run on the thread of their parent.
+ * <p>
+ * Without virtual threads (Java 17 - 20) daemon platform threads are started instead, see {@link VirtualThreads}.
+ * Then a permit is taken before a thread is started for a task, so there are no more threads than permits, except
+ * for containers awaiting their children. Such a task waits for its resource lock holding the permit: a container
+ * holding a lock runs its children on its own thread and doesn't need more permits, so it can't deadlock either.
+ *
+ * @author rev1an (Sergey Alekseev)
+ * @see VirtualThreadJupiterTestEngine
+ */
+public final class VirtualThreadHierarchicalTestExecutorService implements HierarchicalTestExecutorService {
+
+    private static final ThreadLocal<Boolean> HOLDS_PERMIT = ThreadLocal.withInitial(() -> false);
+
+    private final ExecutorService executor = VirtualThreads.newExecutor("junit-virtual");
+    private final Semaphore permits;
+
+    /**
+     * @param concurrency maximum number of tasks running their own code at once
+     */
+    public VirtualThreadHierarchicalTestExecutorService(int concurrency) {
+        this.permits = new Semaphore(concurrency, true);
+    }
+
+    /**
+     * Used for the root and for dynamic tests, i.e. parameterized ones, which parent waits on returned future.
+     */
+    @Override
+    public Future<Void> submit(TestTask testTask) {
+        return new Awaited(CompletableFuture.runAsync(() -> execute(testTask), executor));
+    }
+
+    @Override
+    public void invokeAll(List<? extends TestTask> testTasks) {
+        final var forked = new ArrayList<CompletableFuture<Void>>();
+        final var held = !VirtualThreads.available() && releasePermit(); // permits for children are taken here
+        try {
+            for (final var task : testTasks) {
+                if (task.getExecutionMode() == ExecutionMode.CONCURRENT) {
+                    forked.add(fork(task));
+                }
+            }
+        } finally {
+            restorePermit(held);
+        }
+        for (final var task : testTasks) {
+            if (task.getExecutionMode() != ExecutionMode.CONCURRENT) {
+                execute(task);
+            }
+        }
+        final var holding = releasePermit();
+        try {
+            forked.forEach(CompletableFuture::join);
+        } finally {
+            restorePermit(holding);
+        }
+    }
+
+    /**
+     * A virtual thread is started right away and waits for a permit itself. A platform thread is started only once
+     * a permit is taken for it, otherwise every waiting test would park its own thread.
+     */
+    private CompletableFuture<Void> fork(TestTask task) {
+        if (VirtualThreads.available()) {
+            return CompletableFuture.runAsync(() -> execute(task), executor);
+        }
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a test slot", e);
+        }
+        try {
+            return CompletableFuture.runAsync(() -> {
+                HOLDS_PERMIT.set(true);
+                try {
+                    execute(task);
+                } finally {
+                    HOLDS_PERMIT.set(false);
+                    permits.release();
+                }
+            }, executor);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Children are awaited without holding a permit.
+     *
+     * @return {@code true} if current thread held a permit
+     */
+    private boolean releasePermit() {
+        final var held = HOLDS_PERMIT.get();
+        if (held) {
+            HOLDS_PERMIT.set(false);
+            permits.release();
+        }
+        return held;
+    }
+
+    private void restorePermit(boolean held) {
+        if (held) {
+            permits.acquireUninterruptibly();
+            HOLDS_PERMIT.set(true);
+        }
+    }
+
+    private void execute(TestTask task) {
+        final var held = HOLDS_PERMIT.get();
+        try {
+            final var lock = task.getResourceLock().acquire();
+            try {
+                if (!held) {
+                    permits.acquire();
+                    HOLDS_PERMIT.set(true);
+                }
+                try {
+                    task.execute();
+                } finally {
+                    if (!held) {
+                        HOLDS_PERMIT.set(false);
+                        permits.release();
+                    }
+                }
+            } finally {
+                lock.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a test slot", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Future of a submitted task, that doesn't hold a permit while waiting.
+     */
+    private final class Awaited implements Future<Void> {
+
+        private final CompletableFuture<Void> future;
+
+        private Awaited(CompletableFuture<Void> future) {
+            this.future = future;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return future.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return future.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return future.isDone();
+        }
+
+        @Override
+        public Void get() throws InterruptedException, ExecutionException {
+            final var held = releasePermit();
+            try {
+                return future.get();
+            } finally {
+                restorePermit(held);
+            }
+        }
+
+        @Override
+        public Void get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException,
+                                                            TimeoutException {
+            final var held = releasePermit();
+            try {
+                return future.get(timeout, unit);
+            } finally {
+                restorePermit(held);
+            }
+        }
+
+    }
+
+}
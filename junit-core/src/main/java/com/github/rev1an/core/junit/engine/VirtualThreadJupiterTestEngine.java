@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.junit.engine;
+
+import java.util.Optional;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.hierarchical.EngineExecutionContext;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
+
+/**
+ * JUnit Jupiter, executed by {@link VirtualThreadHierarchicalTestExecutorService}.
+ * <p>
+ * Jupiter engine always uses a fork-join pool of platform threads for parallel execution, and it can't be replaced.
+ * This engine discovers and runs the very same Jupiter tests with the same extensions, only the executor differs.
+ * That requires internal Jupiter API, which is isolated in {@link JupiterInternals}.
+ * <p>
+ * Opt-in, both engine selection and parameter are required, otherwise tests would run twice, i.e. in Gradle:
+ * <pre>
+ * test {
+ *     useJUnitPlatform {
+ *         includeEngines 'rev1an-jupiter-virtual'
+ *     }
+ *     systemProperties = [
+ *             "junit.jupiter.execution.virtual.enabled"    : "true",
+ *             "junit.jupiter.execution.virtual.concurrency": "1000",
+ *             "junit.jupiter.execution.parallel.mode.default": "concurrent",
+ *     ]
+ * }
+ * </pre>
+ * Tests run concurrently according to usual {@code junit.jupiter.execution.parallel.mode.*} settings and
+ * {@link org.junit.jupiter.api.parallel.Execution} annotations; {@code concurrency} is {@code 256} by default.
+ *
+ * @author rev1an (Sergey Alekseev)
+ */
+public final class VirtualThreadJupiterTestEngine extends HierarchicalTestEngine<EngineExecutionContext> {
+
+    private static final String ENABLED = "junit.jupiter.execution.virtual.enabled";
+    private static final String CONCURRENCY = "junit.jupiter.execution.virtual.concurrency";
+
+    @Override
+    public String getId() {
+        return "rev1an-jupiter-virtual";
+    }
+
+    @Override
+    public Optional<String> getGroupId() {
+        return Optional.of("com.github.rev1an");
+    }
+
+    @Override
+    public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+        final var parameters = discoveryRequest.getConfigurationParameters();
+        if (!parameters.getBoolean(ENABLED).orElse(false)) {
+            return JupiterInternals.emptyDescriptor(uniqueId, parameters);
+        }
+        return JupiterInternals.discover(discoveryRequest, uniqueId);
+    }
+
+    @Override
+    protected HierarchicalTestExecutorService createExecutorService(ExecutionRequest request) {
+        final var concurrency = request.getConfigurationParameters()
+                                       .get(CONCURRENCY, Integer::parseInt)
+                                       .orElse(256);
+        return new VirtualThreadHierarchicalTestExecutorService(concurrency);
+    }
+
+    @Override
+    protected ThrowableCollector.Factory createThrowableCollectorFactory(ExecutionRequest request) {
+        return JupiterInternals.throwableCollectorFactory();
+    }
+
+    @Override
+    protected EngineExecutionContext createExecutionContext(ExecutionRequest request) {
+        return JupiterInternals.executionContext(request);
+    }
+
+}
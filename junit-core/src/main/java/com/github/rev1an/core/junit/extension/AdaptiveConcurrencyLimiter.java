@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.junit.extension;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import com.github.rev1an.core.util.AimdLimiter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+
+/**
+ * Runs tests behind an adaptive concurrency limit, see {@link AimdLimiter}, so throughput finds its ceiling
+ * as grid capacity changes.
+ * <p>
+ * Permit is taken before {@code @BeforeEach} callbacks, so resolving a browser parameter is gated too, and returned
+ * after {@code @AfterEach} ones. The limit is cut when session creation or WebDriver commands (reported by
+ * {@code core-selenium}) slow down or time out, or when a test body fails with a timeout; it grows while tests
+ * keep hitting the limit without congestion. Limit history is logged when test run is finished.
+ * <p>
+ * Disabled by default, configured with JUnit configuration parameters:
+ * <ul>
+ *     <li>{@code junit.concurrency.adaptive} - {@code true} to enable</li>
+ *     <li>{@code junit.concurrency.adaptive.initial} - initial limit, {@code 2} by default</li>
+ *     <li>{@code junit.concurrency.adaptive.min} - lower bound, {@code 1} by default</li>
+ *     <li>{@code junit.concurrency.adaptive.max} - upper bound, {@code 16} by default, keep JUnit parallelism
+ *     at least that high</li>
+ *     <li>{@code junit.concurrency.adaptive.backoff} - multiplier on congestion, {@code 0.7} by default</li>
+ *     <li>{@code junit.concurrency.adaptive.tolerance} - latency spike threshold, {@code 2.0} by default</li>
+ *     <li>{@code junit.concurrency.adaptive.window} - adjustment period, {@code PT5S} by default</li>
+ *     <li>{@code junit.concurrency.adaptive.file} - also write limit history to this file</li>
+ *     <li>{@code junit.concurrency.adaptive.timeouts} - comma separated exception class names, which cut the limit
+ *     when a test body fails with them or their subclasses, {@code java.util.concurrent.TimeoutException}
+ *     (thrown for {@code @Timeout}) and {@code org.openqa.selenium.SessionNotCreatedException} by default</li>
+ * </ul>
+ *
+ * @author rev1an (Sergey Alekseev)
+ * @see InvocationInterceptor
+ */
+public final class AdaptiveConcurrencyLimiter implements BeforeEachCallback, AfterEachCallback, InvocationInterceptor {
+
+    private static final Namespace NAMESPACE = Namespace.create(AdaptiveConcurrencyLimiter.class);
+    private static final String PARAMETER = "junit.concurrency.adaptive";
+    private static final String PERMIT = "permit";
+    private static final String TIMEOUTS = "java.util.concurrent.TimeoutException,"
+                                           + "org.openqa.selenium.SessionNotCreatedException";
+    private static final Logger LOG = LogManager.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) throws InterruptedException {
+        final var limiter = limiter(context);
+        if (limiter.isPresent()) {
+            limiter.get().acquire();
+            context.getStore(NAMESPACE).put(PERMIT, Boolean.TRUE);
+        }
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        if (context.getStore(NAMESPACE).remove(PERMIT, Boolean.class) != null) {
+            limiter(context).ifPresent(AimdLimiter::release);
+        }
+    }
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation,
+                                    ReflectiveInvocationContext<Method> invocationContext,
+                                    ExtensionContext extensionContext) throws Throwable {
+        observe(invocation, extensionContext);
+    }
+
+    @Override
+    public void interceptTestTemplateMethod(Invocation<Void> invocation,
+                                            ReflectiveInvocationContext<Method> invocationContext,
+                                            ExtensionContext extensionContext) throws Throwable {
+        observe(invocation, extensionContext);
+    }
+
+    private void observe(Invocation<Void> invocation, ExtensionContext context) throws Throwable {
+        final var start = System.nanoTime();
+        try {
+            invocation.proceed();
+        } catch (Throwable e) {
+            if (isTimeout(context, e)) {
+                limiter(context).ifPresent(limiter -> limiter.sample("test", System.nanoTime() - start, true));
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Only configured exceptions count: element waits, i.e. Selenium {@code TimeoutException}, fail on a missing
+     * element as well, not only on a congested grid.
+     */
+    private static boolean isTimeout(ExtensionContext context, Throwable throwable) {
+        final var names = List.of(context.getConfigurationParameter(PARAMETER + ".timeouts")
+                                         .orElse(TIMEOUTS)
+                                         .replace(" ", "")
+                                         .split(","));
+        for (var cause = throwable; cause != null; cause = cause.getCause()) {
+            for (Class<?> type = cause.getClass(); type != null; type = type.getSuperclass()) {
+                if (names.contains(type.getName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static Optional<AimdLimiter> limiter(ExtensionContext context) {
+        if (!context.getConfigurationParameter(PARAMETER, Boolean::parseBoolean).orElse(false)) {
+            return Optional.empty();
+        }
+        return Optional.of(context.getRoot()
+                                  .getStore(NAMESPACE)
+                                  .getOrComputeIfAbsent(AimdLimiter.class, ignore -> new Resource(context),
+                                                        Resource.class)
+                                  .limiter());
+    }
+
+    /**
+     * Installs limiter for the test run, and reports its history when <b>root</b> {@link ExtensionContext} is closed.
+     */
+    private static final class Resource implements ExtensionContext.Store.CloseableResource {
+
+        private final AimdLimiter limiter;
+        private final Optional<Path> file;
+
+        private Resource(ExtensionContext context) {
+            final var settings = new AimdLimiter.Settings(
+                    context.getConfigurationParameter(PARAMETER + ".initial", Integer::parseInt).orElse(2),
+                    context.getConfigurationParameter(PARAMETER + ".min", Integer::parseInt).orElse(1),
+                    context.getConfigurationParameter(PARAMETER + ".max", Integer::parseInt).orElse(16),
+                    context.getConfigurationParameter(PARAMETER + ".backoff", Double::parseDouble).orElse(0.7),
+                    context.getConfigurationParameter(PARAMETER + ".tolerance", Double::parseDouble).orElse(2.0),
+                    context.getConfigurationParameter(PARAMETER + ".window", Duration::parse)
+                           .orElse(Duration.ofSeconds(5)));
+            this.limiter = new AimdLimiter(settings);
+            this.file = context.getConfigurationParameter(PARAMETER + ".file").map(Path::of);
+            AimdLimiter.install(limiter);
+        }
+
+        private AimdLimiter limiter() {
+            return limiter;
+        }
+
+        @Override
+        public void close() {
+            AimdLimiter.install(null);
+            final var summary = limiter.summary();
+            LOG.info("Adaptive concurrency limit:{}{}", System.lineSeparator(), summary);
+            if (file.isPresent()) {
+                try {
+                    Files.writeString(file.get(), summary);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+
+    }
+
+}
@@ -6,16 +6,46 @@
 
 package com.github.rev1an.core.junit.extension;
 
+import java.util.Arrays;
+import com.github.rev1an.core.json.JacksonHolder;
 import com.github.rev1an.core.json.JacksonMapper;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
 import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.platform.commons.support.ReflectionSupport;
 
 /**
- * Allows to inject {@link JacksonParameterResolver} as dependency into {@code constructor} or {@code test method}.
+ * Allows to inject {@link JacksonMapper} as dependency into {@code constructor} or {@code test method}.
+ * <p>
+ * By default, every test gets the same mapper, copied from {@link JacksonHolder#DEFAULT} once per test run, so
+ * serializers and deserializers built for one test class are reused by others. {@link JacksonMapper} is thread-safe
+ * as long as it isn't reconfigured; tests that do reconfigure it should use a per-class copy.
+ * <p>
+ * Configured with JUnit configuration parameters:
+ * <ul>
+ *     <li>{@code junit.jackson.mapper.isolated} - {@code true} for a separate {@link JacksonMapper#copy()}
+ *     per test class</li>
+ *     <li>{@code junit.jackson.warmup} - comma separated class names, i.e. response DTOs, which (de)serializers are
+ *     built in the shared mapper before the first test class</li>
+ * </ul>
  */
-public class JacksonParameterResolver implements ParameterResolver {
+public class JacksonParameterResolver implements ParameterResolver, BeforeAllCallback {
+
+    private static final Namespace NAMESPACE = Namespace.create(JacksonParameterResolver.class);
+    private static final String ISOLATED = "junit.jackson.mapper.isolated";
+    private static final String WARMUP = "junit.jackson.warmup";
+    private static final String SHARED = "shared";
+    private static final String COPY = "copy"; // stores inherit values, so keys must differ
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        if (context.getConfigurationParameter(WARMUP).isPresent()) {
+            shared(context);
+        }
+    }
 
     @Override
     public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) throws
@@ -26,7 +56,42 @@ public class JacksonParameterResolver implements ParameterResolver {
     @Override
     public JacksonMapper resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) throws
                                                                                                                 ParameterResolutionException {
-        return new JacksonMapper();
+        if (!extensionContext.getConfigurationParameter(ISOLATED, Boolean::parseBoolean).orElse(false)) {
+            return shared(extensionContext);
+        }
+        var classContext = extensionContext;
+        while (classContext.getTestMethod().isPresent()) {
+            classContext = classContext.getParent().orElseThrow();
+        }
+        return classContext.getStore(NAMESPACE)
+                           .getOrComputeIfAbsent(COPY, ignore -> JacksonHolder.DEFAULT.copy(),
+                                                 JacksonMapper.class);
+    }
+
+    private static JacksonMapper shared(ExtensionContext context) {
+        return context.getRoot()
+                      .getStore(NAMESPACE)
+                      .getOrComputeIfAbsent(SHARED, ignore -> warmUp(context, JacksonHolder.DEFAULT.copy()),
+                                            JacksonMapper.class);
+    }
+
+    /**
+     * Root reader and writer lookups build and cache (de)serializers of a type in the mapper.
+     */
+    private static JacksonMapper warmUp(ExtensionContext context, JacksonMapper mapper) {
+        context.getConfigurationParameter(WARMUP)
+               .stream()
+               .flatMap(names -> Arrays.stream(names.split(",")))
+               .map(String::trim)
+               .filter(name -> !name.isEmpty())
+               .map(name -> ReflectionSupport.tryToLoadClass(name)
+                                             .getOrThrow(e -> new ParameterResolutionException(
+                                                     "Cannot load %s for Jackson warm-up".formatted(name), e)))
+               .forEach(type -> {
+                   mapper.readerFor(type);
+                   mapper.writerFor(type);
+               });
+        return mapper;
     }
 
 }
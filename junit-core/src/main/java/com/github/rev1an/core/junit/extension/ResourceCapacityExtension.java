@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.junit.extension;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import com.github.rev1an.core.junit.annotation.UsesResource;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+/**
+ * Separate concurrency budget per resource class, declared with {@link UsesResource}.
+ * <p>
+ * JUnit {@link org.junit.jupiter.api.parallel.ResourceLock} is either exclusive or shared, so it can't express
+ * "at most N browsers". Here each resource gets a fair {@link Semaphore} with {@code junit.resource.<name>.capacity}
+ * permits, shared by the whole test run. While a worker waits for a permit, JUnit fork-join pool is notified via
+ * {@link ForkJoinPool#managedBlock(ForkJoinPool.ManagedBlocker)}, so it may start a compensating worker, i.e. to
+ * keep running API tests while browser tests are queued. Keep {@code max-pool-size} of parallel configuration high
+ * enough for that.
+ * <p>
+ * Permits are held per test method, from {@code @BeforeEach} to {@code @AfterEach}: resources declared on a class
+ * (or an enclosing class of a {@link org.junit.jupiter.api.Nested} one) apply to each of its test methods, as they
+ * may run concurrently. A test acquires all its resources at once, in name order, and no permit is held between
+ * tests, so tests can't deadlock on each other.
+ *
+ * @author rev1an (Sergey Alekseev)
+ * @see UsesResource
+ */
+public final class ResourceCapacityExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final Namespace NAMESPACE = Namespace.create(ResourceCapacityExtension.class);
+    private static final String HELD = "held";
+
+    @Override
+    public void beforeEach(ExtensionContext context) throws InterruptedException {
+        final var names = new TreeSet<String>();
+        for (var current = Optional.of(context); current.isPresent(); current = current.get().getParent()) {
+            current.get().getElement().ifPresent(element -> addDeclared(names, element));
+        }
+        final var acquired = new TreeSet<String>();
+        try {
+            for (final var name : names) {
+                final var semaphore = semaphore(context, name);
+                if (semaphore.isPresent()) {
+                    ForkJoinPool.managedBlock(new Blocker(semaphore.get()));
+                    acquired.add(name);
+                }
+            }
+        } finally {
+            context.getStore(NAMESPACE).put(HELD, acquired); // so whatever is acquired is released
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void afterEach(ExtensionContext context) {
+        final var held = (Set<String>) context.getStore(NAMESPACE).remove(HELD, Set.class);
+        if (held != null) {
+            held.forEach(name -> semaphore(context, name).ifPresent(Semaphore::release));
+        }
+    }
+
+    private static void addDeclared(Set<String> names, AnnotatedElement element) {
+        AnnotationSupport.findRepeatableAnnotations(element, UsesResource.class)
+                         .forEach(resource -> names.add(resource.value()));
+    }
+
+    /**
+     * @return semaphore shared by the test run, empty if resource capacity is unlimited
+     */
+    private static Optional<Semaphore> semaphore(ExtensionContext context, String name) {
+        return context.getConfigurationParameter("junit.resource.%s.capacity".formatted(name), Integer::parseInt)
+                      .map(capacity -> context.getRoot()
+                                              .getStore(NAMESPACE)
+                                              .getOrComputeIfAbsent("capacity:" + name,
+                                                                    ignore -> new Semaphore(capacity, true),
+                                                                    Semaphore.class));
+    }
+
+    private record Blocker(Semaphore semaphore) implements ForkJoinPool.ManagedBlocker {
+
+        @Override
+        public boolean block() throws InterruptedException {
+            semaphore.acquire();
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            try {
+                return semaphore.tryAcquire(0, TimeUnit.NANOSECONDS); // unlike tryAcquire(), honors fairness
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt(); // block() rethrows it
+                return false;
+            }
+        }
+
+    }
+
+}
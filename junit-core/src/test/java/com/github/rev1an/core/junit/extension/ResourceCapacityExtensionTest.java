@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2023 Sergey Alekseev (https://github.com/rev1an).
+ *
+ * Software distributed under MIT license.
+ */
+
+package com.github.rev1an.core.junit.extension;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import com.github.rev1an.core.junit.annotation.UsesResource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class ResourceCapacityExtensionTest {
+
+    private static final String FIXTURE = "junit.resource.test.fixture";
+    private static final Map<String, Usage> USAGES = new ConcurrentHashMap<>();
+
+    @Test
+    public void test_classLevelResourceIsCountedPerMethod() {
+        final var summary = run(Map.of("junit.resource.browser.capacity", "2"), Browsers.class);
+
+        assertEquals(6, summary.getTestsSucceededCount());
+        assertEquals(2, USAGES.get("browser").max.get(), "methods of one class share the capacity of 2");
+    }
+
+    @Test
+    public void test_oppositeClassAndMethodResourcesDontDeadlock() {
+        final var summary = assertTimeoutPreemptively(
+                Duration.ofSeconds(30),
+                () -> run(Map.of("junit.resource.a.capacity", "1", "junit.resource.b.capacity", "1"),
+                          ClassAMethodB.class, ClassBMethodA.class));
+
+        assertEquals(8, summary.getTestsSucceededCount());
+        assertEquals(1, USAGES.get("a").max.get());
+        assertEquals(1, USAGES.get("b").max.get());
+    }
+
+    /**
+     * Fixtures only run from the launcher of these tests.
+     */
+    static boolean launched(ExtensionContext context) {
+        return context.getConfigurationParameter(FIXTURE).isPresent();
+    }
+
+    private static TestExecutionSummary run(Map<String, String> capacities, Class<?>... fixtures) {
+        USAGES.clear();
+        final var parameters = new HashMap<>(capacities);
+        parameters.put(FIXTURE, "true");
+        parameters.put("junit.jupiter.execution.parallel.enabled", "true");
+        parameters.put("junit.jupiter.execution.parallel.mode.default", "concurrent");
+        parameters.put("junit.jupiter.execution.parallel.mode.classes.default", "concurrent");
+        parameters.put("junit.jupiter.execution.parallel.config.strategy", "fixed");
+        parameters.put("junit.jupiter.execution.parallel.config.fixed.parallelism", "8");
+        final var request = LauncherDiscoveryRequestBuilder.request()
+                                                           .configurationParameters(parameters)
+                                                           .selectors(Arrays.stream(fixtures)
+                                                                            .map(DiscoverySelectors::selectClass)
+                                                                            .toList())
+                                                           .build();
+        final var listener = new SummaryGeneratingListener();
+        LauncherFactory.create(LauncherConfig.builder().enableTestExecutionListenerAutoRegistration(false).build())
+                       .execute(request, listener);
+        return listener.getSummary();
+    }
+
+    private static void use(String... resources) throws InterruptedException {
+        for (final var resource : resources) {
+            USAGES.computeIfAbsent(resource, ignore -> new Usage()).enter();
+        }
+        Thread.sleep(100);
+        for (final var resource : resources) {
+            USAGES.get(resource).current.decrementAndGet();
+        }
+    }
+
+    private static final class Usage {
+
+        private final AtomicInteger current = new AtomicInteger();
+        private final AtomicInteger max = new AtomicInteger();
+
+        private void enter() {
+            max.accumulateAndGet(current.incrementAndGet(), Math::max);
+        }
+
+    }
+
+    @EnabledIf("com.github.rev1an.core.junit.extension.ResourceCapacityExtensionTest#launched")
+    @UsesResource("browser")
+    static class Browsers {
+
+        @Test
+        void first() throws InterruptedException {
+            use("browser");
+        }
+
+        @Test
+        void second() throws InterruptedException {
+            use("browser");
+        }
+
+        @Test
+        void third() throws InterruptedException {
+            use("browser");
+        }
+
+        @Test
+        void fourth() throws InterruptedException {
+            use("browser");
+        }
+
+        @Test
+        void fifth() throws InterruptedException {
+            use("browser");
+        }
+
+        @Test
+        void sixth() throws InterruptedException {
+            use("browser");
+        }
+
+    }
+
+    @EnabledIf("com.github.rev1an.core.junit.extension.ResourceCapacityExtensionTest#launched")
+    @UsesResource("a")
+    static class ClassAMethodB {
+
+        @Test
+        @UsesResource("b")
+        void first() throws InterruptedException {
+            use("a", "b");
+        }
+
+        @Test
+        @UsesResource("b")
+        void second() throws InterruptedException {
+            use("a", "b");
+        }
+
+        @Test
+        @UsesResource("b")
+        void third() throws InterruptedException {
+            use("a", "b");
+        }
+
+        @Test
+        @UsesResource("b")
+        void fourth() throws InterruptedException {
+            use("a", "b");
+        }
+
+    }
+
+    @EnabledIf("com.github.rev1an.core.junit.extension.ResourceCapacityExtensionTest#launched")
+    @UsesResource("b")
+    static class ClassBMethodA {
+
+        @Test
+        @UsesResource("a")
+        void first() throws InterruptedException {
+            use("a", "b");
+        }
+
+        @Test
+        @UsesResource("a")
+        void second() throws InterruptedException {
+            use("a", "b");
+        }
+
+        @Test
+        @UsesResource("a")
+        void third() throws InterruptedException {
+            use("a", "b");
+        }
+
+        @Test
+        @UsesResource("a")
+        void fourth() throws InterruptedException {
+            use("a", "b");
+        }
+
+    }
+
+}
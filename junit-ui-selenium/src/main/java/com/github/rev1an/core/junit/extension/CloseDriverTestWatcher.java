@@ -8,12 +8,15 @@ package com.github.rev1an.core.junit.extension;
 
 import java.util.Optional;
 import com.github.rev1an.core.driver.WrappedDriver;
+import com.github.rev1an.core.driver.WrappedDriverPool;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.TestWatcher;
 
 /**
  * Close {@link WrappedDriver} instance after test has been finished and all hooks
  * has been executed.
+ * <p>
+ * If pooling is enabled, {@link WrappedDriver} is returned to {@link WrappedDriverPool} instead.
  *
  * @author rev1an (Sergey Alekseev)
  */
@@ -35,12 +38,15 @@ public class CloseDriverTestWatcher implements TestWatcher {
     }
 
     /**
-     * Close {@link WrappedDriver} if it's present in current {@link ExtensionContext}.
+     * Close {@link WrappedDriver} if it's present in current {@link ExtensionContext},
+     * or release it to {@link WrappedDriverPool}.
      *
      * @param context the current extension context; never {@code null} (from JUnit docs)
      */
     protected void shutdown(ExtensionContext context) {
-        driver(context).ifPresent(WrappedDriver::quit);
+        driver(context).ifPresent(driver -> WrappedDriverFactoryExtension.pool(context)
+                                                                         .ifPresentOrElse(pool -> pool.release(driver),
+                                                                                          driver::quit));
     }
 
     /**
@@ -6,13 +6,28 @@
 
 package com.github.rev1an.core.junit.extension;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import com.github.rev1an.core.driver.CommandMetrics;
+import com.github.rev1an.core.driver.DriverPoolSettings;
 import com.github.rev1an.core.driver.DriverSettings;
 import com.github.rev1an.core.driver.DriverTimeouts;
+import com.github.rev1an.core.driver.PollingStrategy;
+import com.github.rev1an.core.driver.SessionCreationPolicy;
+import com.github.rev1an.core.driver.WaitStatistics;
 import com.github.rev1an.core.driver.WrappedDriver;
 import com.github.rev1an.core.driver.WrappedDriverFactory;
+import com.github.rev1an.core.driver.WrappedDriverPool;
+import com.github.rev1an.core.driver.WrappedDriverPrefetcher;
+import com.github.rev1an.core.driver.builder.HubBalancer;
 import com.github.rev1an.core.driver.capabilities.JsonFileCapabilityProvider;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
@@ -30,6 +45,8 @@ public class WrappedDriverFactoryExtension implements BeforeAllCallback {
 
     public static final Namespace NAMESPACE = Namespace.create(WrappedDriver.class);
 
+    private static final Logger LOG = LogManager.getLogger(WrappedDriverFactoryExtension.class);
+
     /**
      * <ul>
      *     <li>resolve {@link com.github.rev1an.core.driver.CapabilityProvider} and read desired {@link Capabilities}</li>
@@ -37,19 +54,99 @@ public class WrappedDriverFactoryExtension implements BeforeAllCallback {
      *     <li>move {@code webdriver.***.driver} settings from {@link org.junit.platform.engine.ConfigurationParameters}
      *     to {@code system properties}</li>
      *     <li>store {@link WrappedDriverFactory} in <b>root</b> {@link ExtensionContext}</li>
+     *     <li>if {@code selenium.pool.size} is set, store {@link WrappedDriverPool} in <b>root</b>
+     *     {@link ExtensionContext}, it's closed when test run is finished</li>
+     *     <li>otherwise, if {@code selenium.driver.prefetch} is set, store {@link WrappedDriverPrefetcher} in <b>root</b>
+     *     {@link ExtensionContext}, it's closed when test run is finished</li>
+     *     <li>if {@code selenium.waiter.statistics} is {@code true}, enable {@link WaitStatistics} and log
+     *     the summary when test run is finished, also write it to {@code selenium.waiter.statistics.file} if set</li>
+     *     <li>if {@code selenium.driver.metrics} is {@code true}, enable {@link CommandMetrics} and log
+     *     the summary when test run is finished, also write it to {@code selenium.driver.metrics.file} if set</li>
      * </ul>
      *
      * @see BeforeAllCallback#beforeAll(ExtensionContext) docs.
      */
     @Override
     public void beforeAll(ExtensionContext context) {
-        final var capabilities = resolveCapabilities(context);
-        final var settings = readSettings(context);
-        setBinaries(context);
-        final var factory = new WrappedDriverFactory(capabilities, settings);
-        context.getRoot()
-               .getStore(NAMESPACE)
-               .put(WrappedDriverFactory.class, factory);
+        final var store = context.getRoot().getStore(NAMESPACE);
+        enableReport(context, store, "selenium.driver.metrics", "Command metrics",
+                     CommandMetrics::enable, CommandMetrics::summary);
+        final var factory = store.getOrComputeIfAbsent(WrappedDriverFactory.class, ignore -> {
+            final var capabilities = resolveCapabilities(context);
+            final var settings = readSettings(context);
+            setBinaries(context);
+            return new WrappedDriverFactory(capabilities, settings, readSessionPolicy(context));
+        }, WrappedDriverFactory.class);
+        final var poolSettings = readPoolSettings(context);
+        final var prefetch = context.getConfigurationParameter("selenium.driver.prefetch")
+                                    .map(Integer::parseInt)
+                                    .orElse(0);
+        if (poolSettings.enabled()) {
+            store.getOrComputeIfAbsent(WrappedDriverPool.class,
+                                       ignore -> new AutoClosingResource(factory.newPool(poolSettings)),
+                                       AutoClosingResource.class);
+        } else if (prefetch > 0) {
+            store.getOrComputeIfAbsent(WrappedDriverPrefetcher.class,
+                                       ignore -> new AutoClosingResource(factory.newPrefetcher(prefetch)),
+                                       AutoClosingResource.class);
+        }
+        enableReport(context, store, "selenium.waiter.statistics", "Wait statistics",
+                     WaitStatistics::enable, WaitStatistics::summary);
+    }
+
+    /**
+     * Find {@link WrappedDriverPool} in <b>root</b> {@link ExtensionContext}.
+     *
+     * @param context the current extension context
+     * @return {@code Optional} that contains {@link WrappedDriverPool} instance,
+     * empty if pooling is disabled
+     */
+    static Optional<WrappedDriverPool> pool(ExtensionContext context) {
+        return resource(context, WrappedDriverPool.class);
+    }
+
+    /**
+     * Find {@link WrappedDriverPrefetcher} in <b>root</b> {@link ExtensionContext}.
+     *
+     * @param context the current extension context
+     * @return {@code Optional} that contains {@link WrappedDriverPrefetcher} instance,
+     * empty if prefetching is disabled
+     */
+    static Optional<WrappedDriverPrefetcher> prefetcher(ExtensionContext context) {
+        return resource(context, WrappedDriverPrefetcher.class);
+    }
+
+    private static <T extends AutoCloseable> Optional<T> resource(ExtensionContext context, Class<T> type) {
+        return Optional.ofNullable(context.getRoot()
+                                          .getStore(NAMESPACE)
+                                          .get(type, AutoClosingResource.class))
+                       .map(AutoClosingResource::resource)
+                       .map(type::cast);
+    }
+
+    /**
+     * If {@code parameter} is {@code true}, call {@code enable} once per test run, and report {@code summary}
+     * when <b>root</b> {@link ExtensionContext} is closed: it's logged, and also written to
+     * {@code parameter.file} if set.
+     */
+    private static void enableReport(ExtensionContext context, ExtensionContext.Store store, String parameter,
+                                     String title, Runnable enable, Supplier<String> summary) {
+        if (!context.getConfigurationParameter(parameter, Boolean::parseBoolean).orElse(false)) {
+            return;
+        }
+        store.getOrComputeIfAbsent(parameter, ignore -> {
+            enable.run();
+            final var file = context.getConfigurationParameter(parameter + ".file")
+                                    .map(Path::of);
+            return new AutoClosingResource(() -> report(title, summary.get(), file));
+        }, AutoClosingResource.class);
+    }
+
+    private static void report(String title, String summary, Optional<Path> file) throws IOException {
+        LOG.info("{}:{}{}", title, System.lineSeparator(), summary);
+        if (file.isPresent()) {
+            Files.writeString(file.get(), summary);
+        }
     }
 
     private void setBinaries(ExtensionContext context) {
@@ -70,7 +167,83 @@ public class WrappedDriverFactoryExtension implements BeforeAllCallback {
                                             .map(Duration::parse)
                                             .orElse(Duration.ofMillis(200));
         final var pageLoadTimeout = Duration.ofSeconds(30);
-        return new DriverSettings(hubUrl, driverClass, new DriverTimeouts(pageLoadTimeout, timeout, pollingFrequency));
+        final var polling = readPolling(context, pollingFrequency);
+        final var elementCache = context.getConfigurationParameter("selenium.element.cache", Boolean::parseBoolean)
+                                        .orElse(false);
+        final var elementCacheValidity = context.getConfigurationParameter("selenium.element.cache.validity")
+                                                .map(Duration::parse)
+                                                .orElse(Duration.ZERO);
+        final var hubBalancing = context.getConfigurationParameter("selenium.hub.balancing")
+                                        .map(strategy -> switch (strategy) {
+                                            case "round-robin" -> HubBalancer.Strategy.ROUND_ROBIN;
+                                            case "least-outstanding" -> HubBalancer.Strategy.LEAST_OUTSTANDING;
+                                            case "lowest-latency" -> HubBalancer.Strategy.LOWEST_LATENCY;
+                                            default -> throw new IllegalArgumentException(
+                                                    "Unknown hub balancing strategy: " + strategy);
+                                        })
+                                        .orElse(HubBalancer.Strategy.ROUND_ROBIN);
+        return new DriverSettings(hubUrl, driverClass,
+                                  new DriverTimeouts(pageLoadTimeout, timeout, pollingFrequency, polling),
+                                  elementCache ? elementCacheValidity : null,
+                                  hubBalancing);
+    }
+
+    /**
+     * Strategies are built on top of {@code selenium.waiter.frequency}:
+     * <ul>
+     *     <li>{@code fixed} - sleep {@code frequency} between polls</li>
+     *     <li>{@code exponential} - start with {@code frequency}, double it after each poll,
+     *     up to {@code selenium.waiter.polling.max}</li>
+     *     <li>{@code fast-first} - 4 polls with {@code frequency / 4} delay, then {@code exponential}</li>
+     *     <li>{@code jittered} - {@code exponential} with ±20% random jitter</li>
+     * </ul>
+     */
+    private PollingStrategy readPolling(ExtensionContext context, Duration frequency) {
+        final var max = context.getConfigurationParameter("selenium.waiter.polling.max")
+                               .map(Duration::parse)
+                               .orElse(Duration.ofSeconds(2));
+        final var exponential = PollingStrategy.exponential(frequency, 2, max);
+        return context.getConfigurationParameter("selenium.waiter.polling")
+                      .map(strategy -> switch (strategy) {
+                          case "fixed" -> PollingStrategy.fixed(frequency);
+                          case "exponential" -> exponential;
+                          case "fast-first" -> PollingStrategy.fastFirst(frequency.dividedBy(4), 4, exponential);
+                          case "jittered" -> exponential.withJitter(0.2);
+                          default -> throw new IllegalArgumentException("Unknown polling strategy: " + strategy);
+                      })
+                      .orElse(null);
+    }
+
+    private DriverPoolSettings readPoolSettings(ExtensionContext context) {
+        final var size = context.getConfigurationParameter("selenium.pool.size")
+                                .map(Integer::parseInt)
+                                .orElse(0);
+        final var maxReuse = context.getConfigurationParameter("selenium.pool.max.reuse")
+                                    .map(Integer::parseInt)
+                                    .orElse(0);
+        final var idleTimeout = context.getConfigurationParameter("selenium.pool.idle.timeout")
+                                       .map(Duration::parse)
+                                       .orElse(Duration.ZERO);
+        return new DriverPoolSettings(size, maxReuse, idleTimeout);
+    }
+
+    private SessionCreationPolicy readSessionPolicy(ExtensionContext context) {
+        final var deadline = context.getConfigurationParameter("selenium.session.deadline")
+                                    .map(Duration::parse)
+                                    .orElse(Duration.ZERO);
+        final var retries = context.getConfigurationParameter("selenium.session.retries")
+                                   .map(Integer::parseInt)
+                                   .orElse(0);
+        final var backoff = context.getConfigurationParameter("selenium.session.backoff")
+                                   .map(Duration::parse)
+                                   .orElse(Duration.ofSeconds(1));
+        final var breakerThreshold = context.getConfigurationParameter("selenium.session.breaker.threshold")
+                                            .map(Integer::parseInt)
+                                            .orElse(0);
+        final var breakerCooldown = context.getConfigurationParameter("selenium.session.breaker.cooldown")
+                                           .map(Duration::parse)
+                                           .orElse(Duration.ofSeconds(30));
+        return new SessionCreationPolicy(deadline, retries, backoff, breakerThreshold, breakerCooldown);
     }
 
     private Capabilities resolveCapabilities(ExtensionContext context) {
@@ -87,4 +260,19 @@ public class WrappedDriverFactoryExtension implements BeforeAllCallback {
         return provider.get();
     }
 
+    /**
+     * Quit all pooled or prefetched sessions, or report statistics, when <b>root</b> {@link ExtensionContext}
+     * is closed.
+     *
+     * @param resource pool or prefetcher of sessions, statistics report
+     */
+    private record AutoClosingResource(AutoCloseable resource) implements ExtensionContext.Store.CloseableResource {
+
+        @Override
+        public void close() throws Exception {
+            resource.close();
+        }
+
+    }
+
 }
@@ -9,6 +9,8 @@ package com.github.rev1an.core.junit.extension;
 import java.util.Optional;
 import com.github.rev1an.core.driver.WrappedDriver;
 import com.github.rev1an.core.driver.WrappedDriverFactory;
+import com.github.rev1an.core.driver.WrappedDriverPool;
+import com.github.rev1an.core.driver.WrappedDriverPrefetcher;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolutionException;
@@ -18,7 +20,8 @@ import static com.github.rev1an.core.junit.extension.WrappedDriverFactoryExtensi
 
 /**
  * Handle parameter resolution for {@link WrappedDriver}.
- * Each test requires a new, clean browser.
+ * Each test requires a new, clean browser - either a new one, a prefetched one from {@link WrappedDriverPrefetcher},
+ * or a reset one from {@link WrappedDriverPool}.
  *
  * @author rev1an (Sergey Alekseev)
  * @see ParameterResolver
@@ -37,10 +40,19 @@ public class WrappedDriverParameterResolver implements ParameterResolver {
         final var store = extensionContext.getRoot().getStore(NAMESPACE);
         return Optional.ofNullable(store.get(WrappedDriverFactory.class, WrappedDriverFactory.class))
                        .map(factory -> store.getOrComputeIfAbsent(extensionContext.getRequiredTestClass(),
-                                                                  ignore -> factory.build(), WrappedDriver.class))
+                                                                  ignore -> newDriver(factory, extensionContext),
+                                                                  WrappedDriver.class))
                        .orElseThrow(() -> new IllegalStateException(("No %1$s is found in root extension context. " +
                                                                      "Looks like %1$s is missing.")
                                                                             .formatted(WrappedDriverFactory.class)));
     }
 
+    private WrappedDriver newDriver(WrappedDriverFactory factory, ExtensionContext context) {
+        return WrappedDriverFactoryExtension.pool(context)
+                                            .map(WrappedDriverPool::acquire)
+                                            .or(() -> WrappedDriverFactoryExtension.prefetcher(context)
+                                                                                   .map(WrappedDriverPrefetcher::take))
+                                            .orElseGet(factory::build);
+    }
+
 }